@@ -6,13 +6,22 @@ import io.restassured.response.Response;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import uk.gov.hmcts.reform.dev.services.TaskChangeLog;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 
@@ -27,6 +36,9 @@ class TaskApiFunctionalTest {
     @LocalServerPort
     private int port;
 
+    @Autowired
+    private TaskChangeLog taskChangeLog;
+
     @DynamicPropertySource
     static void overrideDatasource(DynamicPropertyRegistry registry) {
         registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + TEST_DB_PATH);
@@ -107,6 +119,64 @@ class TaskApiFunctionalTest {
                 patchResponse.jsonPath().getString("message").contains("Cannot move task from COMPLETED"));
     }
 
+    @Test
+    void shouldPatchOnlyProvidedFieldsAndBumpVersion() {
+        String title = "functional-patch-" + UUID.randomUUID();
+        Response created = createTask(title, "PENDING", "2030-10-01T10:00:00");
+        Long id = created.jsonPath().getLong("id");
+        long version = created.jsonPath().getLong("version");
+
+        Response patched = given()
+                .contentType(ContentType.JSON)
+                .body("{\"description\": \"patched description\"}")
+                .when()
+                .patch("/tasks/{id}", id)
+                .then()
+                .extract().response();
+
+        Assertions.assertEquals(200, patched.statusCode());
+        Assertions.assertEquals(title, patched.jsonPath().getString("title"));
+        Assertions.assertEquals("patched description", patched.jsonPath().getString("description"));
+        Assertions.assertEquals("PENDING", patched.jsonPath().getString("status"));
+        Assertions.assertEquals(version + 1, patched.jsonPath().getLong("version"));
+    }
+
+    @Test
+    void shouldReturn404WhenPatchingMissingTask() {
+        Response response = given()
+                .contentType(ContentType.JSON)
+                .body("{\"status\": \"IN_PROGRESS\"}")
+                .when()
+                .patch("/tasks/{id}", Long.MAX_VALUE)
+                .then()
+                .extract().response();
+
+        Assertions.assertEquals(404, response.statusCode());
+    }
+
+    @Test
+    void shouldAnswerConditionalGetsUntilTasksChange() {
+        Long id = createTask("functional-etag-" + UUID.randomUUID(), "PENDING", "2030-06-01T10:00:00")
+                .jsonPath().getLong("id");
+
+        String taskETag = given().when().get("/tasks/{id}", id).then().statusCode(200).extract().header("ETag");
+        String listETag = given().when().get("/tasks").then().statusCode(200).extract().header("ETag");
+
+        given().header("If-None-Match", taskETag).when().get("/tasks/{id}", id).then().statusCode(304);
+        given().header("If-None-Match", listETag).when().get("/tasks").then().statusCode(304);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"description\": \"changed\"}")
+                .when()
+                .patch("/tasks/{id}", id)
+                .then()
+                .statusCode(200);
+
+        given().header("If-None-Match", taskETag).when().get("/tasks/{id}", id).then().statusCode(200);
+        given().header("If-None-Match", listETag).when().get("/tasks").then().statusCode(200);
+    }
+
     @Test
     void shouldSupportPagingSortingAndMetadata() {
         Response response = given()
@@ -131,6 +201,235 @@ class TaskApiFunctionalTest {
         }
     }
 
+    @Test
+    void shouldMaintainPerStatusCountsAcrossWrites() {
+        long pendingBefore = getCounts().jsonPath().getLong("byStatus.PENDING");
+        long completedBefore = getCounts().jsonPath().getLong("byStatus.COMPLETED");
+
+        Long id = createTask("functional-count-" + UUID.randomUUID(), "PENDING", "2030-08-01T10:00:00")
+                .jsonPath().getLong("id");
+        Assertions.assertEquals(pendingBefore + 1, getCounts().jsonPath().getLong("byStatus.PENDING"));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"status\": \"COMPLETED\"}")
+                .when()
+                .patch("/tasks/{id}", id)
+                .then()
+                .statusCode(200);
+        Assertions.assertEquals(pendingBefore, getCounts().jsonPath().getLong("byStatus.PENDING"));
+        Assertions.assertEquals(completedBefore + 1, getCounts().jsonPath().getLong("byStatus.COMPLETED"));
+
+        Response exact = given().queryParam("size", 5).when().get("/tasks").then().extract().response();
+        Response maintained = given()
+                .queryParam("size", 5)
+                .queryParam("count", "maintained")
+                .when()
+                .get("/tasks")
+                .then()
+                .extract().response();
+        Assertions.assertEquals(exact.jsonPath().getLong("totalElements"),
+                maintained.jsonPath().getLong("totalElements"));
+        Assertions.assertEquals(exact.jsonPath().getInt("totalPages"), maintained.jsonPath().getInt("totalPages"));
+    }
+
+    @Test
+    void shouldCreateTasksInBatchWithPerItemResults() {
+        String body = """
+                {
+                  "tasks": [
+                    {"title": "functional-batch-1", "status": "PENDING", "dueDate": "2030-09-01T10:00:00"},
+                    {"title": " ", "status": "PENDING", "dueDate": "2030-09-01T10:00:00"},
+                    {"title": "functional-batch-3", "status": "IN_PROGRESS", "dueDate": "2030-09-02T10:00:00"}
+                  ]
+                }
+                """;
+
+        Response response = given()
+                .contentType(ContentType.JSON)
+                .body(body)
+                .when()
+                .post("/tasks/batch")
+                .then()
+                .extract().response();
+
+        Assertions.assertEquals(207, response.statusCode());
+        Assertions.assertEquals(2, response.jsonPath().getInt("created"));
+        Assertions.assertEquals(1, response.jsonPath().getInt("rejected"));
+        Assertions.assertEquals("Task title must not be null or empty",
+                response.jsonPath().getString("results[1].error"));
+
+        Long thirdId = response.jsonPath().getLong("results[2].id");
+        Response fetched = given().when().get("/tasks/{id}", thirdId).then().extract().response();
+        Assertions.assertEquals(200, fetched.statusCode());
+        Assertions.assertEquals("functional-batch-3", fetched.jsonPath().getString("title"));
+
+        Long createdAfterBatch = createTask("functional-after-batch", "PENDING", "2030-09-03T10:00:00")
+                .jsonPath().getLong("id");
+        Assertions.assertTrue(createdAfterBatch > thirdId);
+    }
+
+    private Response getCounts() {
+        return given()
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/tasks/counts")
+                .then()
+                .extract().response();
+    }
+
+    @Test
+    void shouldSearchTitlesAndDescriptionsThroughTheFullTextIndex() {
+        String token = "fts" + UUID.randomUUID().toString().replace("-", "");
+        Long titleMatch = createTask(token + " hearing", "PENDING", "2030-06-01T10:00:00").jsonPath().getLong("id");
+        Long descriptionMatch = createTask("functional-search-" + UUID.randomUUID(), "PENDING", "2030-06-01T10:00:00")
+                .jsonPath().getLong("id");
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"description\": \"mentions " + token + " once\"}")
+                .when()
+                .patch("/tasks/{id}", descriptionMatch)
+                .then()
+                .statusCode(200);
+
+        Response response = given().queryParam("q", token.substring(0, 12)).when().get("/tasks/search");
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(List.of(titleMatch, descriptionMatch),
+                response.jsonPath().getList("items.task.id", Long.class));
+        Assertions.assertEquals("<mark>" + token + "</mark> hearing",
+                response.jsonPath().getString("items[0].titleHighlight"));
+        Assertions.assertTrue(response.jsonPath().getString("items[1].snippet").contains("<mark>" + token + "</mark>"));
+
+        given().when().delete("/tasks/{id}", titleMatch).then().statusCode(204);
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"description\": \"no longer matching\"}")
+                .when()
+                .patch("/tasks/{id}", descriptionMatch)
+                .then()
+                .statusCode(200);
+
+        List<Long> remaining = given().queryParam("q", token).when().get("/tasks/search")
+                .jsonPath().getList("items.task.id", Long.class);
+        Assertions.assertTrue(remaining.isEmpty());
+    }
+
+    @Test
+    void shouldExportEveryMatchingTaskAsNdjson() {
+        String prefix = "functional-export-" + UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            Response created = createTask(prefix + "-" + i, "IN_PROGRESS", "2030-06-01T10:00:00");
+            Assertions.assertEquals(201, created.statusCode());
+        }
+
+        Response response = given().queryParam("status", "in_progress").when().get("/tasks/export");
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertTrue(response.contentType().startsWith("application/x-ndjson"));
+        List<String> exported = response.asString().lines()
+                .filter(line -> line.contains(prefix))
+                .toList();
+        Assertions.assertEquals(3, exported.size());
+        Assertions.assertTrue(exported.stream().allMatch(line -> line.contains("\"status\":\"IN_PROGRESS\"")));
+    }
+
+    @Test
+    void shouldImportCsvRowByRowAndRefuseToRunACompletedImportAgain() {
+        String prefix = "functional-import-" + UUID.randomUUID();
+        String csv = "title,description,status,dueDate\n"
+                + prefix + "-1,\"multi\nline, quoted\",PENDING,2030-06-01T10:00:00\n"
+                + prefix + "-2,,NOT_A_STATUS,2030-06-01T10:00:00\n"
+                + prefix + "-3,,COMPLETED,2030-06-02T10:00:00\n";
+
+        Response created = given().when().post("/tasks/imports");
+        Assertions.assertEquals(201, created.statusCode());
+        Assertions.assertEquals("PENDING", created.jsonPath().getString("status"));
+        long id = created.jsonPath().getLong("id");
+
+        Response uploaded = given().queryParam("format", "csv").contentType("text/csv").body(csv)
+                .when().put("/tasks/imports/{id}", id);
+
+        Assertions.assertEquals(200, uploaded.statusCode());
+        Assertions.assertEquals("COMPLETED", uploaded.jsonPath().getString("status"));
+        Assertions.assertEquals(3, uploaded.jsonPath().getLong("rowsCommitted"));
+        Assertions.assertEquals(2, uploaded.jsonPath().getLong("created"));
+        Assertions.assertEquals(1, uploaded.jsonPath().getLong("rejected"));
+        Assertions.assertEquals(2, uploaded.jsonPath().getLong("rejections[0].row"));
+
+        long imported = given().when().get("/tasks/export").asString().lines()
+                .filter(line -> line.contains(prefix))
+                .count();
+        Assertions.assertEquals(2, imported);
+
+        Response again = given().queryParam("format", "csv").contentType("text/csv").body(csv)
+                .when().put("/tasks/imports/{id}", id);
+        Assertions.assertEquals(409, again.statusCode());
+    }
+
+    @Test
+    void shouldPushCreatedTasksToStreamSubscribers() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest subscribe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks/stream"))
+                .header("Accept", "text/event-stream")
+                .build();
+        HttpResponse<Stream<String>> stream = client.send(subscribe, HttpResponse.BodyHandlers.ofLines());
+        Assertions.assertEquals(200, stream.statusCode());
+
+        Response created = createTask("functional-stream-" + UUID.randomUUID(), "PENDING", "2030-06-01T10:00:00");
+        long id = created.jsonPath().getLong("id");
+
+        String data = CompletableFuture.supplyAsync(() -> stream.body()
+                        .filter(line -> line.startsWith("data:") && line.contains("\"id\":" + id + ","))
+                        .findFirst()
+                        .orElseThrow())
+                .get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals("data:{\"id\":" + id + ",\"version\":0}", data);
+        stream.body().close();
+    }
+
+    @Test
+    void shouldReturnOnlyTheDeltasSinceTheLastSyncAndCompactSupersededEntries() {
+        long since = latestChangeSeq();
+        long updatedId = createTask("functional-changes-" + UUID.randomUUID(), "PENDING", "2030-06-01T10:00:00")
+                .jsonPath().getLong("id");
+        long deletedId = createTask("functional-changes-" + UUID.randomUUID(), "PENDING", "2030-06-01T10:00:00")
+                .jsonPath().getLong("id");
+        for (String description : List.of("first", "second")) {
+            given().contentType(ContentType.JSON).body("{\"description\": \"" + description + "\"}")
+                    .when().patch("/tasks/{id}", updatedId);
+        }
+        Assertions.assertEquals(204, given().when().delete("/tasks/{id}", deletedId).statusCode());
+
+        Response changes = given().queryParam("since", since).when().get("/tasks/changes");
+        Assertions.assertEquals(200, changes.statusCode());
+        Assertions.assertEquals(List.of("CREATED", "CREATED", "UPDATED", "UPDATED", "DELETED"),
+                changes.jsonPath().getList("changes.type", String.class));
+        Assertions.assertEquals(List.of(updatedId, deletedId, updatedId, updatedId, deletedId),
+                changes.jsonPath().getList("changes.id", Long.class));
+        Assertions.assertEquals("second", changes.jsonPath().getString("changes[3].task.description"));
+        Assertions.assertNull(changes.jsonPath().get("changes[4].task"));
+
+        taskChangeLog.compact();
+
+        Response compacted = given().queryParam("since", since).when().get("/tasks/changes");
+        Assertions.assertEquals(List.of("UPDATED", "DELETED"),
+                compacted.jsonPath().getList("changes.type", String.class));
+        Assertions.assertEquals(changes.jsonPath().getLong("next"), compacted.jsonPath().getLong("next"));
+    }
+
+    private long latestChangeSeq() {
+        long since = 0;
+        boolean hasMore = true;
+        while (hasMore) {
+            Response page = given().queryParam("since", since).queryParam("limit", 1000)
+                    .when().get("/tasks/changes");
+            since = page.jsonPath().getLong("next");
+            hasMore = page.jsonPath().getBoolean("hasMore");
+        }
+        return since;
+    }
+
     private Response createTask(String title, String status, String dueDate) {
         String requestBody = """
                 {
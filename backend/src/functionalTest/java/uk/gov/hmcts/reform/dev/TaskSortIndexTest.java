@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import uk.gov.hmcts.reform.dev.api.SortDirection;
+import uk.gov.hmcts.reform.dev.api.TaskResponse;
+import uk.gov.hmcts.reform.dev.api.TaskSortBy;
+import uk.gov.hmcts.reform.dev.repository.TaskFilter;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Explains the page query Hibernate actually generates for each TaskSortBy, captured with a StatementInspector
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "uk.gov.hmcts.reform.dev.TaskSortIndexTest$CapturingInspector")
+class TaskSortIndexTest {
+
+    private static final String TEST_DB_PATH = System.getProperty("java.io.tmpdir")
+            + "/task-sort-index-"
+            + UUID.randomUUID()
+            + ".sqlite";
+
+    private static final Queue<String> CAPTURED = new ConcurrentLinkedQueue<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskService taskService;
+
+    @DynamicPropertySource
+    static void overrideDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + TEST_DB_PATH);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TaskSortBy.class)
+    void pageQueriesShouldBeServedInIndexOrder(TaskSortBy sortBy) {
+        for (SortDirection direction : SortDirection.values()) {
+            CAPTURED.clear();
+            taskService.getAllTasks(TaskFilter.NONE, PageRequest.of(2, 20, sortBy.toSort(direction)),
+                    TaskResponse.class);
+            List<String> pageQueries = CAPTURED.stream()
+                    .map(sql -> sql.toLowerCase(Locale.ROOT))
+                    .filter(sql -> sql.contains(" from task ") && sql.contains(" order by "))
+                    .toList();
+            Assertions.assertEquals(1, pageQueries.size(), "expected one ordered page query: " + CAPTURED);
+            String sql = pageQueries.get(0);
+
+            // Limit and offset are the only parameters without a filter; any value gives the same plan
+            List<String> plan = jdbcTemplate.query("EXPLAIN QUERY PLAN " + sql,
+                    statement -> {
+                        for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                            statement.setInt(i, 20);
+                        }
+                    },
+                    (rs, row) -> rs.getString("detail"));
+
+            Assertions.assertTrue(plan.stream().noneMatch(step -> step.contains("TEMP B-TREE")),
+                    sql + " should not sort in a temp B-tree: " + plan);
+        }
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.dev;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.services.TaskWriteQueue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// A write rejected inside a group commit must only roll back to its own savepoint, on the real SQLite transaction
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "tasks.write.queue.linger=500ms")
+class TaskWriteBatchIsolationTest {
+
+    private static final String TEST_DB_PATH = System.getProperty("java.io.tmpdir")
+            + "/task-write-batch-"
+            + UUID.randomUUID()
+            + ".sqlite";
+
+    @Autowired
+    private TaskWriteQueue writeQueue;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JpaTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void overrideDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + TEST_DB_PATH);
+    }
+
+    @Test
+    void failingWriteShouldNotRollBackTheRestOfItsBatch() {
+        Task existing = taskService.createTask(newTask("batch-existing"));
+        Long id = existing.getId();
+        double batchesBefore = meterRegistry.get("tasks.write.batch.size").summary().count();
+
+        CompletableFuture<Task> updated = writeQueue.submit(() -> taskService.updateTask(patch(id, "batch-updated")));
+        CompletableFuture<Task> stale = writeQueue.submit(() ->
+                taskService.updateTask(patch(id, "batch-stale"), existing.getVersion()));
+        CompletableFuture<Task> created = writeQueue.submit(() -> taskService.createTask(newTask("batch-created")));
+
+        Task updatedTask = updated.join();
+        Task createdTask = created.join();
+        CompletionException failure = Assertions.assertThrows(CompletionException.class, stale::join);
+        Assertions.assertInstanceOf(TaskVersionMismatchException.class, failure.getCause());
+        Assertions.assertEquals(batchesBefore + 1, meterRegistry.get("tasks.write.batch.size").summary().count(),
+                "the three writes should have been committed as one batch");
+
+        Task reloaded = taskService.getTaskById(id).orElseThrow();
+        Assertions.assertEquals("batch-updated", reloaded.getTitle());
+        Assertions.assertEquals(updatedTask.getVersion(), reloaded.getVersion());
+        Assertions.assertEquals("batch-created",
+                taskService.getTaskById(createdTask.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void defaultTransactionManagerShouldKeepSpringsRollbackSemantics() {
+        Assertions.assertTrue(transactionManager.isGlobalRollbackOnParticipationFailure());
+        Assertions.assertFalse(transactionManager.isNestedTransactionAllowed());
+    }
+
+    private static Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.of(2030, 1, 1, 10, 0));
+        return task;
+    }
+
+    private static Task patch(Long id, String title) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        return task;
+    }
+}
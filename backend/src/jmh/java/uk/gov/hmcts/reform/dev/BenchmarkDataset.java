@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+
+// Generated databases for the scaling benchmarks, kept under benchmark.data-dir (default build/benchmark-data)
+// and reused across runs, since loading ten million tasks takes minutes
+final class BenchmarkDataset {
+
+    private static final long SEED = 42L;
+
+    private BenchmarkDataset() {
+    }
+
+    static Path prepare(long tasks) throws IOException, SQLException {
+        Path directory = Path.of(System.getProperty("benchmark.data-dir", "build/benchmark-data"));
+        Path database = directory.resolve("tasks-" + tasks + "-" + SEED + ".sqlite");
+        if (!Files.exists(database)) {
+            // Generated under another name first, so an interrupted run never leaves a short file to be reused
+            Path partial = directory.resolve(database.getFileName() + ".partial");
+            Files.deleteIfExists(partial);
+            TaskDataGenerator.generate(partial, tasks, SEED);
+            Files.move(partial, database, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return database;
+    }
+
+    static ConfigurableApplicationContext start(Path database) {
+        return new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:sqlite:" + database,
+                        "tasks.cache.warm-up.enabled=false")
+                .run();
+    }
+}
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.services.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.services.TaskWriteCoordinator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Inserts per second for TASKS tasks created one write at a time against the same tasks sent as one batch
+// (TaskService.createTasks, which reserves ids and inserts with JDBC batching), both through TaskWriteCoordinator
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskBatchInsertBenchmark {
+
+    private static final int TASKS = 500;
+    private static final LocalDateTime DUE = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private Path database;
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskWriteCoordinator writeCoordinator;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        database = Files.createTempFile("task-jmh-batch-", ".sqlite");
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:sqlite:" + database,
+                        "tasks.cache.warm-up.enabled=false")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        writeCoordinator = context.getBean(TaskWriteCoordinator.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        context.close();
+        for (String suffix : List.of("", "-wal", "-shm")) {
+            Files.deleteIfExists(Path.of(database + suffix));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public Task singleCreates() {
+        Task last = null;
+        for (Task task : newTasks()) {
+            last = writeCoordinator.execute(() -> taskService.createTask(task));
+        }
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public List<TaskBatchResult> batchCreate() {
+        List<Task> tasks = newTasks();
+        return writeCoordinator.execute(() -> taskService.createTasks(tasks));
+    }
+
+    private static List<Task> newTasks() {
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Batch benchmark task " + i);
+            task.setDescription("Inserted by TaskBatchInsertBenchmark");
+            task.setStatus(TaskStatus.PENDING);
+            task.setDueDate(DUE.plusMinutes(i));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
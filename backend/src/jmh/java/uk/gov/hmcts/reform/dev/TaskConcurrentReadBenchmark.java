@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import uk.gov.hmcts.reform.dev.api.SortDirection;
+import uk.gov.hmcts.reform.dev.api.TaskResponse;
+import uk.gov.hmcts.reform.dev.api.TaskSortBy;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskFilter;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.services.TaskWriteCoordinator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Read throughput of the sqlite-reader pool with READERS threads paging through tasks, idle and while one thread
+// keeps inserting through the writer pool. Compare idleReads with contended:contendedReads; with WAL the readers
+// should barely notice the writer.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskConcurrentReadBenchmark {
+
+    private static final int READERS = 8;
+    private static final int SEED_TASKS = 10_000;
+    private static final int SEED_BATCH = 500;
+    private static final int PAGE_SIZE = 20;
+    private static final LocalDateTime DUE = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private Path database;
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskWriteCoordinator writeCoordinator;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        database = Files.createTempFile("task-jmh-read-", ".sqlite");
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:sqlite:" + database,
+                        "tasks.cache.warm-up.enabled=false")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        writeCoordinator = context.getBean(TaskWriteCoordinator.class);
+        for (int seeded = 0; seeded < SEED_TASKS; seeded += SEED_BATCH) {
+            List<Task> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = 0; i < SEED_BATCH; i++) {
+                batch.add(newTask(seeded + i));
+            }
+            writeCoordinator.execute(() -> taskService.createTasks(batch));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        context.close();
+        for (String suffix : List.of("", "-wal", "-shm")) {
+            Files.deleteIfExists(Path.of(database + suffix));
+        }
+    }
+
+    @Benchmark
+    @Threads(READERS)
+    public Slice<TaskResponse> idleReads() {
+        return readPage();
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(READERS)
+    public Slice<TaskResponse> contendedReads() {
+        return readPage();
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public Task contendedWrites() {
+        Task task = newTask(ThreadLocalRandom.current().nextInt(SEED_TASKS));
+        return writeCoordinator.execute(() -> taskService.createTask(task));
+    }
+
+    // List reads skip the task cache, so every call takes a reader connection
+    private Slice<TaskResponse> readPage() {
+        int page = ThreadLocalRandom.current().nextInt(SEED_TASKS / PAGE_SIZE);
+        return taskService.getTaskSlice(TaskFilter.NONE,
+                PageRequest.of(page, PAGE_SIZE, TaskSortBy.DUE_DATE.toSort(SortDirection.ASC)), TaskResponse.class);
+    }
+
+    private static Task newTask(int n) {
+        Task task = new Task();
+        task.setTitle("Read benchmark task " + n);
+        task.setDescription("Seeded by TaskConcurrentReadBenchmark");
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(DUE.plusMinutes(n));
+        return task;
+    }
+}
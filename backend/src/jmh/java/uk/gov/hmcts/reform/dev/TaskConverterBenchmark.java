@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.dev.api.SortDirection;
+import uk.gov.hmcts.reform.dev.api.StringToSortDirectionConverter;
+import uk.gov.hmcts.reform.dev.api.StringToTaskSortByConverter;
+import uk.gov.hmcts.reform.dev.api.TaskSortBy;
+
+import java.util.concurrent.TimeUnit;
+
+// Every GET /tasks converts sortBy and direction; the params cover the canonical spelling, the alias and a value
+// that needs trimming and lower-casing
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskConverterBenchmark {
+
+    @Param({"due_date", "dueDate", " TITLE "})
+    public String sortBy;
+
+    @Param({"asc", " DESC "})
+    public String direction;
+
+    private final StringToTaskSortByConverter sortByConverter = new StringToTaskSortByConverter();
+    private final StringToSortDirectionConverter directionConverter = new StringToSortDirectionConverter();
+
+    @Benchmark
+    public TaskSortBy convertSortBy() {
+        return sortByConverter.convert(sortBy);
+    }
+
+    @Benchmark
+    public SortDirection convertDirection() {
+        return directionConverter.convert(direction);
+    }
+}
@@ -0,0 +1,152 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.flywaydb.core.Flyway;
+import org.sqlite.SQLiteConfig;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+// Bulk-loads synthetic tasks into a SQLite file for the scaling benchmarks. The schema comes from the Flyway
+// migrations and rows go in through plain JDBC with the triggers in place, so the status counts, the search index
+// and the change log are populated exactly as the application would leave them. The data is shaped like a
+// long-running service rather than uniform noise:
+// - statuses are skewed towards COMPLETED;
+// - due dates cluster around a few dozen hearing days, in office hours;
+// - descriptions range from none to a few thousand words, with a long tail.
+// The same seed always produces the same rows.
+//
+// Usage: TaskDataGenerator <database file> <task count> [seed]
+public final class TaskDataGenerator {
+
+    private static final int COMMIT_EVERY = 50_000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final int DUE_DATE_CLUSTERS = 48;
+
+    private static final String INSERT_TASK =
+            "INSERT INTO task (version, title, description, status, due_date, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] VERBS = {
+        "Review", "Draft", "File", "Prepare", "Serve", "List", "Translate", "Redact", "Approve", "Archive",
+    };
+    private static final String[] NOUNS = {
+        "bundle", "witness statement", "hearing notice", "order", "application", "skeleton argument", "transcript",
+        "judgment", "appeal", "evidence", "directions", "summons", "affidavit", "costs schedule", "case summary",
+    };
+    private static final String[] WORDS = {
+        "the", "court", "case", "party", "hearing", "judge", "claimant", "defendant", "evidence", "order", "listed",
+        "tribunal", "appeal", "deadline", "document", "served", "filed", "review", "bundle", "counsel", "solicitor",
+        "adjourned", "directions", "witness", "statement", "disclosure", "application", "costs", "urgent", "and",
+        "of", "to", "for", "before", "after", "with", "pending", "family", "civil", "crime", "probate", "notice",
+    };
+
+    private TaskDataGenerator() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: TaskDataGenerator <database file> <task count> [seed]");
+        }
+        Path database = Path.of(args[0]);
+        long count = Long.parseLong(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        long start = System.nanoTime();
+        generate(database, count, seed);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("Generated %d tasks into %s in %.1fs (%.0f tasks/sec)%n",
+                count, database, seconds, count / seconds);
+    }
+
+    // Adds count tasks to the database, creating and migrating it first if needed
+    public static void generate(Path database, long count, long seed) throws SQLException {
+        try {
+            Files.createDirectories(database.toAbsolutePath().getParent());
+        } catch (IOException ex) {
+            throw new IllegalStateException("Cannot create " + database.getParent(), ex);
+        }
+        String url = "jdbc:sqlite:" + database;
+        Flyway.configure().dataSource(url, null, null).locations("classpath:db/migration").load().migrate();
+
+        SQLiteConfig config = new SQLiteConfig();
+        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        // A crash mid-load only loses a file that is about to be regenerated anyway
+        config.setSynchronous(SQLiteConfig.SynchronousMode.OFF);
+        config.setTempStore(SQLiteConfig.TempStore.MEMORY);
+        config.setCacheSize(-256 * 1024);
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime[] clusters = new LocalDateTime[DUE_DATE_CLUSTERS];
+        for (int i = 0; i < clusters.length; i++) {
+            clusters[i] = EPOCH.plusDays(random.nextInt(730)).withHour(10);
+        }
+
+        try (Connection connection = config.createConnection(url);
+             PreparedStatement insert = connection.prepareStatement(INSERT_TASK)) {
+            connection.setAutoCommit(false);
+            for (long n = 0; n < count; n++) {
+                // Creation times walk forward over two years before EPOCH, like a real insert order
+                LocalDateTime createdAt = EPOCH.minusDays(730).plusSeconds(n * 63_072_000L / Math.max(count, 1));
+                LocalDateTime updatedAt = createdAt.plusMinutes(random.nextInt(60 * 24 * 30));
+                insert.setLong(1, random.nextInt(4));
+                insert.setString(2, title(random));
+                insert.setString(3, description(random));
+                insert.setString(4, status(random));
+                insert.setTimestamp(5, Timestamp.valueOf(dueDate(random, clusters)));
+                insert.setTimestamp(6, Timestamp.valueOf(createdAt));
+                insert.setTimestamp(7, Timestamp.valueOf(updatedAt));
+                insert.addBatch();
+                if ((n + 1) % 1_000 == 0) {
+                    insert.executeBatch();
+                }
+                if ((n + 1) % COMMIT_EVERY == 0) {
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static String status(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return "COMPLETED";
+        }
+        return roll < 85 ? "IN_PROGRESS" : "PENDING";
+    }
+
+    // Most tasks fall within a couple of days of a cluster; one in ten is anywhere, so no day is empty
+    private static LocalDateTime dueDate(SplittableRandom random, LocalDateTime[] clusters) {
+        LocalDateTime day = random.nextInt(10) == 0
+                ? EPOCH.plusDays(random.nextInt(730))
+                : clusters[random.nextInt(clusters.length)].plusDays(Math.round(random.nextGaussian() * 2));
+        return day.withHour(9 + random.nextInt(8)).withMinute(15 * random.nextInt(4));
+    }
+
+    private static String title(SplittableRandom random) {
+        return VERBS[random.nextInt(VERBS.length)] + " " + NOUNS[random.nextInt(NOUNS.length)]
+                + " " + random.nextInt(100_000);
+    }
+
+    // Word counts are log-normal: a median of about 20 words, capped at 4000; a fifth of tasks have none
+    private static String description(SplittableRandom random) {
+        if (random.nextInt(5) == 0) {
+            return null;
+        }
+        int words = (int) Math.min(4_000, Math.max(1, Math.round(Math.exp(3 + random.nextGaussian()))));
+        StringBuilder text = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
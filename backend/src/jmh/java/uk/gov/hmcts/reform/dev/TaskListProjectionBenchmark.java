@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.api.TaskMapper;
+import uk.gov.hmcts.reform.dev.api.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// One 100-item page loaded as Task entities and mapped, against the same page selected straight into TaskResponse.
+// Run with -PjmhArgs="-prof gc" to see the allocation per page (gc.alloc.rate.norm) as well as the time.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskListProjectionBenchmark {
+
+    private static final int TASK_COUNT = 1_000;
+    private static final int PAGE_SIZE = 100;
+
+    private Path database;
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TransactionTemplate readOnly;
+    private final Pageable pageable = PageRequest.of(1, PAGE_SIZE, Sort.by("id"));
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        database = Files.createTempFile("task-jmh-projection-", ".sqlite");
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:sqlite:" + database,
+                        "tasks.cache.warm-up.enabled=false")
+                .run();
+        taskRepository = context.getBean(TaskRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Task> tasks = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("projection-" + i);
+            task.setDescription("Projection benchmark task with a description long enough to matter " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setDueDate(LocalDateTime.of(2030, 1, 1, 10, 0).plusDays(i % 30));
+            tasks.add(task);
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> taskRepository.insertAll(tasks));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        context.close();
+        for (String suffix : List.of("", "-wal", "-shm")) {
+            Files.deleteIfExists(Path.of(database + suffix));
+        }
+    }
+
+    @Benchmark
+    public Page<TaskResponse> entities() {
+        return readOnly.execute(status -> taskRepository.findAll(pageable).map(TaskMapper::toResponse));
+    }
+
+    @Benchmark
+    public Page<TaskResponse> projection() {
+        return readOnly.execute(status -> taskRepository.findPage(null, pageable, TaskResponse.class));
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import uk.gov.hmcts.reform.dev.api.SortDirection;
+import uk.gov.hmcts.reform.dev.api.TaskResponse;
+import uk.gov.hmcts.reform.dev.api.TaskSortBy;
+import uk.gov.hmcts.reform.dev.repository.TaskFilter;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+// One page of GET /tasks (count=none) for every table size x sort column x page depth, sampled so the JSON
+// results carry a latency distribution per point. Offset paging has to step over page x size rows, so latency is
+// expected to grow with depth; the (column, id) indexes should keep it flat across table sizes for shallow pages.
+// 10M tasks is left out of the defaults because generating it takes a while: ./gradlew jmh
+// -PjmhInclude=TaskListScalingBenchmark -PjmhArgs="-p tableSize=10000000"
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskListScalingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000", "1000000"})
+    public long tableSize;
+
+    @Param({"ID", "TITLE", "STATUS", "DUE_DATE"})
+    public TaskSortBy sortBy;
+
+    @Param({"0", "10", "1000"})
+    public int pageDepth;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Pageable ascending;
+    private Pageable descending;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException, SQLException {
+        context = BenchmarkDataset.start(BenchmarkDataset.prepare(tableSize));
+        taskService = context.getBean(TaskService.class);
+        ascending = PageRequest.of(pageDepth, PAGE_SIZE, sortBy.toSort(SortDirection.ASC));
+        descending = PageRequest.of(pageDepth, PAGE_SIZE, sortBy.toSort(SortDirection.DESC));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<TaskResponse> listAscending() {
+        return taskService.getTaskSlice(TaskFilter.NONE, ascending, TaskResponse.class);
+    }
+
+    @Benchmark
+    public Slice<TaskResponse> listDescending() {
+        return taskService.getTaskSlice(TaskFilter.NONE, descending, TaskResponse.class);
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.dev.api.TaskMapper;
+import uk.gov.hmcts.reform.dev.api.TaskRequest;
+import uk.gov.hmcts.reform.dev.api.TaskResponse;
+import uk.gov.hmcts.reform.dev.api.TaskUpdateRequest;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMapperBenchmark {
+
+    private Task task;
+    private TaskRequest request;
+    private TaskUpdateRequest updateRequest;
+
+    @Setup
+    public void setUp() {
+        task = new Task();
+        task.setId(42L);
+        task.setTitle("Review case bundle");
+        task.setDescription("Check the bundle index against the uploaded documents before the hearing");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setDueDate(LocalDateTime.of(2030, 1, 1, 10, 0));
+        request = new TaskRequest(task.getTitle(), task.getDescription(), task.getStatus(), task.getDueDate());
+        updateRequest = new TaskUpdateRequest("Renamed", null, TaskStatus.COMPLETED, null);
+    }
+
+    @Benchmark
+    public TaskResponse toResponse() {
+        return TaskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return TaskMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public Task toEntityFromUpdate() {
+        return TaskMapper.toEntity(updateRequest);
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.dev;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.dev.api.TaskPageResponse;
+import uk.gov.hmcts.reform.dev.api.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// A full default page of GET /tasks, written with the same ObjectMapper settings Spring Boot applies
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskPageSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private ObjectWriter writer;
+    private TaskPageResponse page;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(TaskPageResponse.class);
+        LocalDateTime now = LocalDateTime.of(2030, 1, 1, 10, 0);
+        TaskStatus[] statuses = TaskStatus.values();
+        List<TaskResponse> items = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            items.add(new TaskResponse((long) i, 1L, "Task " + i, "Description of task " + i,
+                    statuses[i % statuses.length], now.plusHours(i), now, now.plusMinutes(i)));
+        }
+        page = new TaskPageResponse(items, 0, PAGE_SIZE, 10_000L, 100, true, false);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import uk.gov.hmcts.reform.dev.api.SortDirection;
+import uk.gov.hmcts.reform.dev.api.TaskResponse;
+import uk.gov.hmcts.reform.dev.api.TaskSortBy;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskFilter;
+import uk.gov.hmcts.reform.dev.repository.TaskSearchQuery;
+import uk.gov.hmcts.reform.dev.services.TaskSearchResult;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Counting and searching against the same generated tables as TaskListScalingBenchmark: the trigger-maintained
+// status counts, an exact COUNT(*) behind a filtered first page, and full-text search for a narrow and a broad query
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskQueryScalingBenchmark {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20, TaskSortBy.DUE_DATE.toSort(SortDirection.ASC));
+    private static final TaskFilter OPEN_DUE_SOON = new TaskFilter(Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS),
+            LocalDateTime.of(2026, 3, 1, 0, 0), null, null, null);
+
+    @Param({"100000", "1000000"})
+    public long tableSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException, SQLException {
+        context = BenchmarkDataset.start(BenchmarkDataset.prepare(tableSize));
+        taskService = context.getBean(TaskService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public long countMaintained() {
+        return taskService.countTasks();
+    }
+
+    @Benchmark
+    public Page<TaskResponse> listFilteredWithExactCount() {
+        return taskService.getAllTasks(OPEN_DUE_SOON, FIRST_PAGE, TaskResponse.class);
+    }
+
+    @Benchmark
+    public Slice<TaskSearchResult> searchNarrowQuery() {
+        return taskService.searchTasks(new TaskSearchQuery("probate affidavit"), PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public Slice<TaskSearchResult> searchBroadQuery() {
+        return taskService.searchTasks(new TaskSearchQuery("court"), PageRequest.of(0, 20));
+    }
+}
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import uk.gov.hmcts.reform.dev.api.SortDirection;
+import uk.gov.hmcts.reform.dev.api.TaskResponse;
+import uk.gov.hmcts.reform.dev.api.TaskSortBy;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskFilter;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.services.TaskWriteCoordinator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// TaskService against a real SQLite file with Flyway applied, going through TaskWriteCoordinator the way the
+// controllers do, so writes include the write queue and the group commit
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    private static final int SEED_TASKS = 10_000;
+    private static final int SEED_BATCH = 500;
+    private static final int PAGE_SIZE = 20;
+    private static final LocalDateTime DUE = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private Path database;
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskWriteCoordinator writeCoordinator;
+    private long maxId;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        database = Files.createTempFile("task-jmh-", ".sqlite");
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:sqlite:" + database,
+                        "tasks.cache.warm-up.enabled=false")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        writeCoordinator = context.getBean(TaskWriteCoordinator.class);
+        for (int seeded = 0; seeded < SEED_TASKS; seeded += SEED_BATCH) {
+            List<Task> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = 0; i < SEED_BATCH; i++) {
+                batch.add(newTask(seeded + i));
+            }
+            writeCoordinator.execute(() -> taskService.createTasks(batch));
+        }
+        maxId = writeCoordinator.execute(() -> taskService.createTask(newTask(SEED_TASKS))).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        context.close();
+        for (String suffix : List.of("", "-wal", "-shm")) {
+            Files.deleteIfExists(Path.of(database + suffix));
+        }
+    }
+
+    @Benchmark
+    public Task create() {
+        Task task = newTask(ThreadLocalRandom.current().nextInt(SEED_TASKS));
+        return writeCoordinator.execute(() -> taskService.createTask(task));
+    }
+
+    @Benchmark
+    public Task update() {
+        Task changes = new Task();
+        changes.setId(ThreadLocalRandom.current().nextLong(1, maxId + 1));
+        changes.setTitle("Updated " + UUID.randomUUID());
+        return writeCoordinator.execute(changes.getId(), () -> taskService.updateTask(changes));
+    }
+
+    @Benchmark
+    public Page<TaskResponse> listByDueDate() {
+        int page = ThreadLocalRandom.current().nextInt(SEED_TASKS / PAGE_SIZE / 10);
+        return taskService.getAllTasks(TaskFilter.NONE,
+                PageRequest.of(page, PAGE_SIZE, TaskSortBy.DUE_DATE.toSort(SortDirection.ASC)), TaskResponse.class);
+    }
+
+    private static Task newTask(int n) {
+        Task task = new Task();
+        task.setTitle("Benchmark task " + n);
+        task.setDescription("Seeded by TaskServiceBenchmark");
+        task.setStatus(TaskStatus.values()[n % TaskStatus.values().length]);
+        task.setDueDate(DUE.plusMinutes(n));
+        return task;
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToTaskCountModeConverter implements Converter<String, TaskCountMode> {
+    @Override
+    public TaskCountMode convert(String source) {
+        if (source == null || source.isBlank()) {
+            return TaskCountMode.EXACT;
+        }
+
+        return switch (source.trim().toLowerCase()) {
+            case "exact" -> TaskCountMode.EXACT;
+            case "maintained" -> TaskCountMode.MAINTAINED;
+            case "none" -> TaskCountMode.NONE;
+            default -> throw new IllegalArgumentException(
+                    "Invalid count: " + source + ". Allowed: exact, maintained, none");
+        };
+    }
+}
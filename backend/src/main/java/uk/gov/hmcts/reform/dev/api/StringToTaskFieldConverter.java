@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToTaskFieldConverter implements Converter<String, TaskField> {
+    @Override
+    public TaskField convert(String source) {
+        return switch (source.trim().toLowerCase()) {
+            case "id" -> TaskField.ID;
+            case "version" -> TaskField.VERSION;
+            case "title" -> TaskField.TITLE;
+            case "description" -> TaskField.DESCRIPTION;
+            case "status" -> TaskField.STATUS;
+            case "duedate", "due_date" -> TaskField.DUE_DATE;
+            case "createdat", "created_at" -> TaskField.CREATED_AT;
+            case "updatedat", "updated_at" -> TaskField.UPDATED_AT;
+            default -> throw new IllegalArgumentException("Invalid field: " + source
+                    + ". Allowed: id, version, title, description, status, dueDate, createdAt, updatedAt");
+        };
+    }
+}
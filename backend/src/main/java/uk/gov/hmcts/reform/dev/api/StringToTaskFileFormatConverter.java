@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToTaskFileFormatConverter implements Converter<String, TaskFileFormat> {
+    @Override
+    public TaskFileFormat convert(String source) {
+        return switch (source.trim().toLowerCase()) {
+            case "ndjson" -> TaskFileFormat.NDJSON;
+            case "csv" -> TaskFileFormat.CSV;
+            default -> throw new IllegalArgumentException(
+                    "Invalid format: " + source + ". Allowed: ndjson, csv");
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+@Component
+public class StringToTaskStatusConverter implements Converter<String, TaskStatus> {
+    @Override
+    public TaskStatus convert(String source) {
+        return switch (source.trim().toLowerCase()) {
+            case "pending" -> TaskStatus.PENDING;
+            case "in_progress" -> TaskStatus.IN_PROGRESS;
+            case "completed" -> TaskStatus.COMPLETED;
+            default -> throw new IllegalArgumentException(
+                    "Invalid status: " + source + ". Allowed: pending, in_progress, completed");
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public record TaskBatchItemResponse(
+        int index,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long id,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String error) {
+}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record TaskBatchRequest(
+        @NotEmpty(message = "tasks must not be empty")
+        @Size(max = 10000, message = "tasks must contain at most 10000 items")
+        List<@NotNull(message = "tasks must not contain null items") TaskRequest> tasks) {
+}
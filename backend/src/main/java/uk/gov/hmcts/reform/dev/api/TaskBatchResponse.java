@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.util.List;
+
+public record TaskBatchResponse(
+        int created,
+        int rejected,
+        List<TaskBatchItemResponse> results) {
+}
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+public record TaskBulkUpdateRequest(
+        @Size(max = 10000, message = "ids must contain at most 10000 items")
+        List<@NotNull(message = "ids must not contain null items") Long> ids,
+        LocalDateTime dueBefore,
+        TaskStatus currentStatus,
+        TaskStatus status,
+        LocalDateTime dueDate) {
+}
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import uk.gov.hmcts.reform.dev.models.TaskChangeType;
+
+// task is the task's current state, which may be newer than version; it is absent for deletes
+public record TaskChangeResponse(
+        long seq,
+        Long id,
+        TaskChangeType type,
+        Long version,
+        LocalDateTime changedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) TaskResponse task) {
+}
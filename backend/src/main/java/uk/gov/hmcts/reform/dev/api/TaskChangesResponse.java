@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.util.List;
+
+// next is the since value for the following request; hasMore says whether it will return anything yet
+public record TaskChangesResponse(
+        List<TaskChangeResponse> changes,
+        long next,
+        boolean hasMore) {
+}
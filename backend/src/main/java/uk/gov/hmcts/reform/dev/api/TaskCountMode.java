@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.api;
+
+public enum TaskCountMode {
+    EXACT,
+    MAINTAINED,
+    NONE
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.util.Map;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+public record TaskCountsResponse(
+        long total,
+        Map<TaskStatus, Long> byStatus) {
+}
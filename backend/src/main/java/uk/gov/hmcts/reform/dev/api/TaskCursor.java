@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+public record TaskCursor(TaskSortBy sortBy, SortDirection direction, long id, String key) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TaskCursor of(Task task, TaskSortBy sortBy, SortDirection direction) {
+        String key = switch (sortBy) {
+            case ID -> "";
+            case TITLE -> task.getTitle();
+            case STATUS -> task.getStatus().name();
+            case DUE_DATE -> task.getDueDate().toString();
+        };
+        return new TaskCursor(sortBy, direction, task.getId(), key);
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The key goes last so titles containing the separator survive the round trip
+            String[] parts = decoded.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            TaskCursor cursor = new TaskCursor(
+                    TaskSortBy.valueOf(parts[0]),
+                    SortDirection.valueOf(parts[1]),
+                    Long.parseLong(parts[2]),
+                    parts[3]);
+            cursor.typedKey();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    public String encode() {
+        String raw = sortBy.name() + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public KeysetScrollPosition toScrollPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (sortBy != TaskSortBy.ID) {
+            keys.put(sortBy.entityField(), typedKey());
+        }
+        keys.put(TaskSortBy.ID.entityField(), id);
+        return ScrollPosition.forward(keys);
+    }
+
+    private Object typedKey() {
+        return switch (sortBy) {
+            case ID -> id;
+            case TITLE -> key;
+            case STATUS -> TaskStatus.valueOf(key);
+            case DUE_DATE -> LocalDateTime.parse(key);
+        };
+    }
+}
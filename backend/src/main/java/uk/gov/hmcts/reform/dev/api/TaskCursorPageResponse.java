@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.util.List;
+
+public record TaskCursorPageResponse(
+        List<TaskResponse> items,
+        int size,
+        boolean hasNext,
+        String nextCursor) {
+}
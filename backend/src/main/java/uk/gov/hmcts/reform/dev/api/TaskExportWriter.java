@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+// Writes one task per line straight to the response, so nothing is held beyond the current row
+public class TaskExportWriter implements Consumer<TaskResponse> {
+
+    static final String CSV_HEADER = "id,version,title,description,status,dueDate,createdAt,updatedAt";
+
+    private final TaskFileFormat format;
+    private final ObjectWriter json;
+    private final Writer out;
+
+    public TaskExportWriter(TaskFileFormat format, ObjectMapper objectMapper, Writer out) {
+        this.format = format;
+        this.json = objectMapper.writerFor(TaskResponse.class);
+        this.out = out;
+    }
+
+    public void writeHeader() throws IOException {
+        if (format == TaskFileFormat.CSV) {
+            out.write(CSV_HEADER);
+            out.write('\n');
+        }
+    }
+
+    @Override
+    public void accept(TaskResponse task) {
+        try {
+            if (format == TaskFileFormat.NDJSON) {
+                out.write(json.writeValueAsString(task));
+            } else {
+                writeCsv(task);
+            }
+            out.write('\n');
+        } catch (IOException ex) {
+            // Usually the client went away; this unwinds the export and releases its cursor
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeCsv(TaskResponse task) throws IOException {
+        out.write(String.join(",",
+                csv(task.id()),
+                csv(task.version()),
+                csv(task.title()),
+                csv(task.description()),
+                csv(task.status()),
+                csv(task.dueDate()),
+                csv(task.createdAt()),
+                csv(task.updatedAt())));
+    }
+
+    // RFC 4180: quote values containing a delimiter, quote or line break, doubling embedded quotes
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        // Same shape as the JSON output, which always includes seconds
+        String text = value instanceof LocalDateTime dateTime
+                ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime)
+                : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+}
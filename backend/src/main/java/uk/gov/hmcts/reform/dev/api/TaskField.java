@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Properties selectable with ?fields=. The JSON property names match the Task attribute names.
+public enum TaskField {
+    ID("id"),
+    VERSION("version"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    DUE_DATE("dueDate"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String entityField;
+
+    TaskField(String entityField) {
+        this.entityField = entityField;
+    }
+
+    public String entityField() {
+        return entityField;
+    }
+
+    // Request order is kept for the response; repeated fields are selected once
+    public static List<String> toEntityFields(List<TaskField> fields) {
+        Set<String> entityFields = new LinkedHashSet<>();
+        if (fields != null) {
+            fields.stream().filter(field -> field != null).forEach(field -> entityFields.add(field.entityField));
+        }
+        if (entityFields.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one field");
+        }
+        return List.copyOf(entityFields);
+    }
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+// Query parameters shared by the page and cursor list endpoints; status may be repeated or comma-separated
+public record TaskFilterRequest(
+        List<TaskStatus> status,
+        @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime dueBefore,
+        @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime dueAfter,
+        @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdAfter,
+        @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime updatedAfter) {
+}
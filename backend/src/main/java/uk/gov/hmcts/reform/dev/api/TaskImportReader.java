@@ -0,0 +1,228 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.services.TaskImportRow;
+
+// Parses an upload one row at a time, so only the current row is held. NDJSON rows are TaskRequest bodies;
+// CSV needs a header and reads the title, description, status and dueDate columns by name, ignoring the rest,
+// so a CSV export can be imported again. Blank lines are skipped and not counted as rows.
+public class TaskImportReader implements Iterator<TaskImportRow> {
+
+    static final int MAX_ROW_LENGTH = 64 * 1024;
+
+    private static final int EOF = -1;
+
+    private final TaskFileFormat format;
+    private final ObjectReader json;
+    private final BufferedReader in;
+    private int titleColumn = -1;
+    private int descriptionColumn = -1;
+    private int statusColumn = -1;
+    private int dueDateColumn = -1;
+    private long rowNumber;
+    private TaskImportRow next;
+    private boolean finished;
+    private boolean unterminated;
+
+    public TaskImportReader(TaskFileFormat format, ObjectMapper objectMapper, Reader in) throws IOException {
+        this.format = format;
+        this.json = objectMapper.readerFor(TaskRequest.class);
+        this.in = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in);
+        if (format == TaskFileFormat.CSV) {
+            readHeader();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = readRow();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public TaskImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TaskImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readCsvRecord();
+        if (header == null || unterminated) {
+            throw new IllegalArgumentException("CSV import must start with a header row");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "title" -> titleColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "status" -> statusColumn = i;
+                case "duedate" -> dueDateColumn = i;
+                default -> {
+                    // Export-only columns such as id and createdAt are not imported
+                }
+            }
+        }
+        if (titleColumn < 0 || statusColumn < 0 || dueDateColumn < 0) {
+            throw new IllegalArgumentException("CSV header must include title, status and dueDate columns");
+        }
+    }
+
+    private TaskImportRow readRow() throws IOException {
+        if (format == TaskFileFormat.NDJSON) {
+            String line = readLine();
+            return line == null ? null : toRow(++rowNumber, line);
+        }
+        List<String> record = readCsvRecord();
+        return record == null ? null : toRow(++rowNumber, record);
+    }
+
+    private TaskImportRow toRow(long number, String line) {
+        try {
+            TaskRequest request = json.readValue(line);
+            if (request == null) {
+                return TaskImportRow.rejected(number, "Row must be a JSON object");
+            }
+            return TaskImportRow.parsed(number, TaskMapper.toEntity(request));
+        } catch (JsonProcessingException ex) {
+            return TaskImportRow.rejected(number, "Invalid JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    private TaskImportRow toRow(long number, List<String> record) {
+        if (unterminated) {
+            return TaskImportRow.rejected(number, "Unterminated quoted field");
+        }
+        Task task = new Task();
+        task.setTitle(column(record, titleColumn));
+        String description = column(record, descriptionColumn);
+        task.setDescription(description == null || description.isEmpty() ? null : description);
+        String status = column(record, statusColumn);
+        String dueDate = column(record, dueDateColumn);
+        try {
+            task.setStatus(status == null || status.isBlank() ? null : TaskStatus.valueOf(status.trim()));
+        } catch (IllegalArgumentException ex) {
+            return TaskImportRow.rejected(number, "Invalid status: " + status);
+        }
+        try {
+            task.setDueDate(dueDate == null || dueDate.isBlank() ? null : LocalDateTime.parse(dueDate.trim()));
+        } catch (DateTimeParseException ex) {
+            return TaskImportRow.rejected(number, "Invalid dueDate: " + dueDate);
+        }
+        return TaskImportRow.parsed(number, task);
+    }
+
+    private static String column(List<String> record, int index) {
+        return index >= 0 && index < record.size() ? record.get(index) : null;
+    }
+
+    // Next non-blank line without its terminator, or null at end of input
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != EOF) {
+            if (c == '\n') {
+                if (!line.toString().isBlank()) {
+                    return stripCarriageReturn(line);
+                }
+                line.setLength(0);
+            } else {
+                append(line, (char) c);
+            }
+        }
+        return line.toString().isBlank() ? null : stripCarriageReturn(line);
+    }
+
+    // RFC 4180 record: quoted fields may hold delimiters, doubled quotes and line breaks. Empty records are
+    // skipped. Input that ends inside quotes sets unterminated so the last row can be rejected.
+    private List<String> readCsvRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int length = 0;
+        boolean quoted = false;
+        int c;
+        while ((c = in.read()) != EOF) {
+            if (++length > MAX_ROW_LENGTH) {
+                throw new IllegalArgumentException("Row " + (rowNumber + 1) + " is longer than "
+                        + MAX_ROW_LENGTH + " characters");
+            }
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                in.mark(1);
+                if (in.read() == '"') {
+                    field.append('"');
+                } else {
+                    in.reset();
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                if (fields.isEmpty() && field.toString().isBlank()) {
+                    length = 0;
+                    field.setLength(0);
+                    continue;
+                }
+                fields.add(stripCarriageReturn(field));
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+        if (quoted) {
+            unterminated = true;
+            fields.add(field.toString());
+            return fields;
+        }
+        if (fields.isEmpty() && field.toString().isBlank()) {
+            return null;
+        }
+        fields.add(stripCarriageReturn(field));
+        return fields;
+    }
+
+    private void append(StringBuilder line, char c) {
+        if (line.length() >= MAX_ROW_LENGTH) {
+            throw new IllegalArgumentException("Row " + (rowNumber + 1) + " is longer than "
+                    + MAX_ROW_LENGTH + " characters");
+        }
+        line.append(c);
+    }
+
+    private static String stripCarriageReturn(StringBuilder text) {
+        int end = text.length();
+        return end > 0 && text.charAt(end - 1) == '\r' ? text.substring(0, end - 1) : text.toString();
+    }
+}
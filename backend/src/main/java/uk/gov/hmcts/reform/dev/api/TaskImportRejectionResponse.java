@@ -0,0 +1,4 @@
+package uk.gov.hmcts.reform.dev.api;
+
+public record TaskImportRejectionResponse(long row, String error) {
+}
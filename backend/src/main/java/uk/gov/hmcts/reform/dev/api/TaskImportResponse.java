@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import uk.gov.hmcts.reform.dev.models.TaskImportStatus;
+
+// rowsCommitted is the resume checkpoint. rejections is only set on the upload response and holds at most
+// tasks.import.max-reported-rejections rows; rejected is the full count.
+public record TaskImportResponse(
+        Long id,
+        TaskImportStatus status,
+        long rowsCommitted,
+        long created,
+        long rejected,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String lastError,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<TaskImportRejectionResponse> rejections) {
+}
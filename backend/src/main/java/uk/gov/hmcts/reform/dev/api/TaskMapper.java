@@ -1,6 +1,26 @@
 package uk.gov.hmcts.reform.dev.api;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.web.util.HtmlUtils;
+
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskChange;
+import uk.gov.hmcts.reform.dev.models.TaskImport;
+import uk.gov.hmcts.reform.dev.repository.TaskBulkUpdate;
+import uk.gov.hmcts.reform.dev.repository.TaskFilter;
+import uk.gov.hmcts.reform.dev.repository.TaskSearchHit;
+import uk.gov.hmcts.reform.dev.services.TaskChangeResult;
+import uk.gov.hmcts.reform.dev.services.TaskCollectionVersion;
+import uk.gov.hmcts.reform.dev.services.TaskImportResult;
+import uk.gov.hmcts.reform.dev.services.TaskSearchResult;
 
 public final class TaskMapper {
     private TaskMapper() {
@@ -24,6 +44,65 @@ public final class TaskMapper {
         return task;
     }
 
+    public static TaskBulkUpdate toBulkUpdate(TaskBulkUpdateRequest request) {
+        return new TaskBulkUpdate(
+                request.ids(),
+                request.dueBefore(),
+                request.currentStatus(),
+                request.status(),
+                request.dueDate());
+    }
+
+    // Strong validator: id + @Version changes on every committed write to the row
+    public static String toETag(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    // Returns the version named by an If-Match header for this task, or null when the header is absent or "*".
+    // If-Match uses strong comparison, so weak tags and tags for other tasks can never match.
+    public static Long fromIfMatch(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        Long version = null;
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+                continue;
+            }
+            try {
+                long candidate = Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+                if (version != null && version != candidate) {
+                    throw new IllegalArgumentException("If-Match must name a single version of the task");
+                }
+                version = candidate;
+            } catch (NumberFormatException ex) {
+                // Not one of our tags, so it cannot match
+            }
+        }
+        if (version == null) {
+            throw new TaskVersionMismatchException(id);
+        }
+        return version;
+    }
+
+    public static String toETag(TaskCollectionVersion version) {
+        long lastUpdated = version.lastUpdatedAt() == null
+                ? 0
+                : version.lastUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        return "\"tasks-" + version.writeGeneration() + "-" + version.count() + "-" + lastUpdated + "\"";
+    }
+
+    public static TaskFilter toFilter(TaskFilterRequest request) {
+        return new TaskFilter(
+                request.status() == null ? null : Set.copyOf(request.status()),
+                request.dueBefore(),
+                request.dueAfter(),
+                request.createdAfter(),
+                request.updatedAfter());
+    }
+
     public static TaskResponse toResponse(Task task) {
         return new TaskResponse(
                 task.getId(),
@@ -35,4 +114,64 @@ public final class TaskMapper {
                 task.getCreatedAt(),
                 task.getUpdatedAt());
     }
+
+    public static TaskSearchItemResponse toSearchItemResponse(TaskSearchResult result) {
+        return new TaskSearchItemResponse(
+                toResponse(result.task()),
+                toHighlight(result.titleHighlight()),
+                toHighlight(result.snippet()));
+    }
+
+    public static TaskChangesResponse toChangesResponse(Slice<TaskChangeResult> results, long since) {
+        List<TaskChangeResponse> changes = results.stream().map(TaskMapper::toChangeResponse).toList();
+        long next = changes.isEmpty() ? since : changes.get(changes.size() - 1).seq();
+        return new TaskChangesResponse(changes, next, results.hasNext());
+    }
+
+    private static TaskChangeResponse toChangeResponse(TaskChangeResult result) {
+        TaskChange change = result.change();
+        return new TaskChangeResponse(
+                change.getSeq(),
+                change.getTaskId(),
+                change.getType(),
+                change.getVersion(),
+                // Same zone as the entity timestamps, which are stamped with LocalDateTime.now()
+                LocalDateTime.ofInstant(Instant.ofEpochSecond(change.getChangedAt()), ZoneId.systemDefault()),
+                result.task() == null ? null : toResponse(result.task()));
+    }
+
+    public static TaskImportResponse toImportResponse(TaskImport taskImport) {
+        return toImportResponse(taskImport, null);
+    }
+
+    public static TaskImportResponse toImportResponse(TaskImportResult result) {
+        List<TaskImportRejectionResponse> rejections = result.rejections().stream()
+                .map(row -> new TaskImportRejectionResponse(row.number(), row.error()))
+                .toList();
+        return toImportResponse(result.taskImport(), rejections);
+    }
+
+    private static TaskImportResponse toImportResponse(TaskImport taskImport,
+                                                       List<TaskImportRejectionResponse> rejections) {
+        return new TaskImportResponse(
+                taskImport.getId(),
+                taskImport.getStatus(),
+                taskImport.getRowsCommitted(),
+                taskImport.getCreated(),
+                taskImport.getRejected(),
+                taskImport.getLastError(),
+                taskImport.getCreatedAt(),
+                taskImport.getUpdatedAt(),
+                rejections);
+    }
+
+    // Task text is HTML-escaped first, so only the <mark> tags added here reach the client as markup
+    static String toHighlight(String marked) {
+        if (marked == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(marked)
+                .replace(TaskSearchHit.MATCH_START, "<mark>")
+                .replace(TaskSearchHit.MATCH_END, "</mark>");
+    }
 }
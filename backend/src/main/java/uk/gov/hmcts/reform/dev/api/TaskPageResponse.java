@@ -2,12 +2,15 @@ package uk.gov.hmcts.reform.dev.api;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public record TaskPageResponse(
-        List<TaskResponse> items,
+        // TaskResponse, or a property map when ?fields= selects a subset
+        List<?> items,
         int page,
         int size,
-        long totalElements,
-        int totalPages,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long totalElements,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Integer totalPages,
         boolean first,
         boolean last) {
 }
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.api;
+
+public record TaskSearchItemResponse(
+        TaskResponse task,
+        String titleHighlight,
+        String snippet) {
+}
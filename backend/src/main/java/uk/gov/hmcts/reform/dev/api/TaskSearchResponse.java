@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.util.List;
+
+public record TaskSearchResponse(
+        List<TaskSearchItemResponse> items,
+        int page,
+        int size,
+        boolean hasNext) {
+}
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.dev.api;
 
+import org.springframework.data.domain.Sort;
+
 public enum TaskSortBy {
     ID("id"),
     TITLE("title"),
@@ -16,6 +18,15 @@ public enum TaskSortBy {
         return entityField;
     }
 
+    // The id tiebreaker makes paging stable and matches the (column, id) indexes, so SQLite never sorts in memory
+    public Sort toSort(SortDirection direction) {
+        Sort sort = Sort.by(direction.toSpringDirection(), entityField);
+        if (this == ID) {
+            return sort;
+        }
+        return sort.and(Sort.by(direction.toSpringDirection(), ID.entityField));
+    }
+
     public static TaskSortBy from(String value) {
         if (value == null) {
             return ID;
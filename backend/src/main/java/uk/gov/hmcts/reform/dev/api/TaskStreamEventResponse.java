@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// data of a created/updated/deleted stream event; version is absent when the new state was not loaded
+public record TaskStreamEventResponse(
+        Long id,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long version) {
+}
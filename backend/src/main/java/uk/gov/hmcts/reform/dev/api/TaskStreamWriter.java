@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import uk.gov.hmcts.reform.dev.services.TaskChangeFeed;
+import uk.gov.hmcts.reform.dev.services.TaskStreamEvent;
+
+// Writes the change feed as Server-Sent Events. The event id is the feed's epoch and sequence, which browsers send
+// back as Last-Event-ID when they reconnect.
+public class TaskStreamWriter implements TaskChangeFeed.Sink {
+
+    static final String RESYNC = "resync";
+
+    private final SseEmitter emitter;
+
+    public TaskStreamWriter(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(String eventId, TaskStreamEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(eventId)
+                .name(event.type().name().toLowerCase(Locale.ROOT))
+                .data(new TaskStreamEventResponse(event.id(), event.version()), MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void resync(String eventId) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(eventId)
+                .name(RESYNC)
+                .data("{}"));
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.sqlite.SQLiteConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// SQLite allows many readers but only one writer. Writes go through a single-connection pool so they queue in
+// Hikari instead of failing with SQLITE_BUSY, while @Transactional(readOnly = true) work is routed to a separate
+// pool of read-only connections that WAL lets run alongside the writer. Each pool sits behind a fair semaphore
+// with one permit per connection (see AdmissionControlDataSource).
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.datasource.driver-class-name", havingValue = "org.sqlite.JDBC")
+public class SqliteDataSourceConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteWriterDataSource(DataSourceProperties dataSource, SqliteProperties sqlite) {
+        SQLiteConfig config = baseConfig(sqlite);
+        // Journal mode is persistent in the database file, so setting it on the writer is enough for readers too
+        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        return pool("sqlite-writer", dataSource, config, 1);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteReaderDataSource(DataSourceProperties dataSource, SqliteProperties sqlite) {
+        SQLiteConfig config = baseConfig(sqlite);
+        config.setReadOnly(true);
+        return pool("sqlite-reader", dataSource, config, sqlite.readerPoolSize());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource sqliteWriterDataSource, HikariDataSource sqliteReaderDataSource,
+                                 SqliteProperties sqlite, MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(
+                admission(sqliteWriterDataSource, sqlite, meterRegistry));
+        routing.setReadOnlyDataSource(admission(sqliteReaderDataSource, sqlite, meterRegistry));
+        return routing;
+    }
+
+    private static DataSource admission(HikariDataSource pool, SqliteProperties sqlite, MeterRegistry meterRegistry) {
+        AdmissionControlDataSource admission = new AdmissionControlDataSource(pool.getPoolName(), pool,
+                pool.getMaximumPoolSize(), sqlite.admissionTimeout());
+        Gauge.builder("tasks.db.admission.waiting", admission, AdmissionControlDataSource::waiting)
+                .description("Callers queued for a connection from this pool")
+                .tag("pool", pool.getPoolName())
+                .register(meterRegistry);
+        return admission;
+    }
+
+    private static SQLiteConfig baseConfig(SqliteProperties sqlite) {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        config.setBusyTimeout((int) sqlite.busyTimeout().toMillis());
+        // A negative cache_size is a size in KiB rather than a page count
+        config.setCacheSize((int) -sqlite.cacheSize().toKilobytes());
+        config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, Long.toString(sqlite.mmapSize().toBytes()));
+        return config;
+    }
+
+    private static HikariDataSource pool(String name, DataSourceProperties dataSource, SQLiteConfig config,
+                                         int size) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setDriverClassName(dataSource.determineDriverClassName());
+        pool.setJdbcUrl(dataSource.determineUrl());
+        pool.setMaximumPoolSize(size);
+        pool.setMinimumIdle(size);
+        pool.setDataSourceProperties(config.toProperties());
+        return pool;
+    }
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("tasks.sqlite")
+public record SqliteProperties(
+        @DefaultValue("8") int readerPoolSize,
+        @DefaultValue("5s") Duration busyTimeout,
+        @DefaultValue("256MB") DataSize mmapSize,
+        @DefaultValue("16MB") DataSize cacheSize,
+        @DefaultValue("10s") Duration admissionTimeout) {
+}
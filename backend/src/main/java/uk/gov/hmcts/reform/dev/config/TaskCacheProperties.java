@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("tasks.cache")
+public record TaskCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration timeToLive,
+        @DefaultValue WarmUp warmUp) {
+
+    public record WarmUp(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("48h") Duration dueWithin,
+            @DefaultValue("500") int limit) {
+    }
+}
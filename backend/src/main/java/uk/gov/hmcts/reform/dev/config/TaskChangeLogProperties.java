@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("tasks.changes")
+public record TaskChangeLogProperties(
+        @DefaultValue("10m") Duration compactionInterval,
+        @DefaultValue("1000") int compactionBatchSize,
+        @DefaultValue("30d") Duration tombstoneRetention) {
+}
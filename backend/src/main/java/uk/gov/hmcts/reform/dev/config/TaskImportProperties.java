@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("tasks.import")
+public record TaskImportProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("100") int maxReportedRejections) {
+}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("tasks.stream")
+public record TaskStreamProperties(
+        @DefaultValue("4096") int replaySize,
+        @DefaultValue("256") int subscriberBuffer,
+        @DefaultValue("15s") Duration heartbeat) {
+}
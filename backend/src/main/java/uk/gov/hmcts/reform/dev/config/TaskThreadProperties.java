@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("tasks.threads")
+public record TaskThreadProperties(
+        @DefaultValue("20ms") Duration pinnedThreshold) {
+}
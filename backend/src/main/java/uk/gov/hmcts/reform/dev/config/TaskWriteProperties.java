@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("tasks.write")
+public record TaskWriteProperties(
+        @DefaultValue("64") int lockStripes,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("10ms") Duration initialBackoff,
+        @DefaultValue("200ms") Duration maxBackoff,
+        @DefaultValue Queue queue) {
+
+    public record Queue(
+            @DefaultValue("1024") int capacity,
+            @DefaultValue("64") int batchSize,
+            @DefaultValue("2ms") Duration linger,
+            @DefaultValue("1s") Duration enqueueTimeout,
+            @DefaultValue("30s") Duration completionTimeout) {
+    }
+}
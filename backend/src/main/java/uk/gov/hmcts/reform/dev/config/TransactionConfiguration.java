@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+@Configuration(proxyBeanMethods = false)
+public class TransactionConfiguration {
+
+    public static final String TASK_WRITE_TRANSACTION_MANAGER = "taskWriteTransactionManager";
+
+    // Declaring a second transaction manager switches off Boot's, so the default one is declared here the same way
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager();
+        customizers.ifAvailable(all -> all.customize(transactionManager));
+        return transactionManager;
+    }
+
+    // Used only by TaskWriteQueue and the writes in TaskService. The queue isolates each write in a group-committed
+    // transaction behind a savepoint, and TaskService joins that transaction; a failing write must only roll back to
+    // its savepoint, not mark the shared transaction rollback-only and turn the batch commit into an
+    // UnexpectedRollbackException. Every other transaction keeps the default rollback semantics.
+    @Bean(TASK_WRITE_TRANSACTION_MANAGER)
+    public JpaTransactionManager taskWriteTransactionManager(
+            ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager();
+        customizers.ifAvailable(all -> all.customize(transactionManager));
+        transactionManager.setNestedTransactionAllowed(true);
+        transactionManager.setGlobalRollbackOnParticipationFailure(false);
+        return transactionManager;
+    }
+}
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import uk.gov.hmcts.reform.dev.api.TaskChangesResponse;
+import uk.gov.hmcts.reform.dev.api.TaskMapper;
+import uk.gov.hmcts.reform.dev.services.TaskChangeLog;
+
+@RestController
+@RequestMapping("/tasks/changes")
+public class TaskChangeController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final TaskChangeLog taskChangeLog;
+
+    public TaskChangeController(TaskChangeLog taskChangeLog) {
+        this.taskChangeLog = taskChangeLog;
+    }
+
+    // A client stores next and passes it back as since; since=0 returns every task
+    @GetMapping
+    public ResponseEntity<TaskChangesResponse> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must be >= 0");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return ResponseEntity.ok(TaskMapper.toChangesResponse(taskChangeLog.getChanges(since, limit), since));
+    }
+}
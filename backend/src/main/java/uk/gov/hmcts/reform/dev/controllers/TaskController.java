@@ -1,11 +1,24 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,19 +27,46 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import uk.gov.hmcts.reform.dev.api.SortDirection;
+import uk.gov.hmcts.reform.dev.api.TaskBatchItemResponse;
+import uk.gov.hmcts.reform.dev.api.TaskBatchRequest;
+import uk.gov.hmcts.reform.dev.api.TaskBatchResponse;
+import uk.gov.hmcts.reform.dev.api.TaskBulkDeleteResponse;
+import uk.gov.hmcts.reform.dev.api.TaskBulkUpdateRequest;
+import uk.gov.hmcts.reform.dev.api.TaskBulkUpdateResponse;
+import uk.gov.hmcts.reform.dev.api.TaskCountMode;
+import uk.gov.hmcts.reform.dev.api.TaskCountsResponse;
+import uk.gov.hmcts.reform.dev.api.TaskCursor;
+import uk.gov.hmcts.reform.dev.api.TaskCursorPageResponse;
+import uk.gov.hmcts.reform.dev.api.TaskExportWriter;
+import uk.gov.hmcts.reform.dev.api.TaskFileFormat;
+import uk.gov.hmcts.reform.dev.api.TaskField;
+import uk.gov.hmcts.reform.dev.api.TaskFilterRequest;
 import uk.gov.hmcts.reform.dev.api.TaskMapper;
 import uk.gov.hmcts.reform.dev.api.TaskRequest;
 import uk.gov.hmcts.reform.dev.api.TaskResponse;
+import uk.gov.hmcts.reform.dev.api.TaskSearchResponse;
 import uk.gov.hmcts.reform.dev.api.TaskSortBy;
 import uk.gov.hmcts.reform.dev.api.TaskUpdateRequest;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskBulkUpdate;
+import uk.gov.hmcts.reform.dev.repository.TaskFilter;
+import uk.gov.hmcts.reform.dev.repository.TaskSearchQuery;
+import uk.gov.hmcts.reform.dev.services.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.services.TaskSearchResult;
 import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.services.TaskWriteCoordinator;
 import uk.gov.hmcts.reform.dev.api.TaskPageResponse;
 
 @RestController
@@ -34,16 +74,49 @@ import uk.gov.hmcts.reform.dev.api.TaskPageResponse;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskWriteCoordinator taskWriteCoordinator;
+    private final ObjectMapper objectMapper;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskWriteCoordinator taskWriteCoordinator,
+                          ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.taskWriteCoordinator = taskWriteCoordinator;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest request) {
+        if (isNotModified(id, request)) {
+            return null;
+        }
         return taskService.getTaskById(id)
-                .map(TaskMapper::toResponse)
-                .map(ResponseEntity::ok)
+                .map(task -> ResponseEntity.ok()
+                        .eTag(TaskMapper.toETag(task.getId(), task.getVersion()))
+                        .body(TaskMapper.toResponse(task)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Sparse representation: selects only the requested columns, plus version for the ETag
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getTaskFieldsById(
+            @PathVariable Long id,
+            @RequestParam List<TaskField> fields,
+            WebRequest request) {
+        List<String> attributes = TaskField.toEntityFields(fields);
+        if (isNotModified(id, request)) {
+            return null;
+        }
+        boolean versionRequested = attributes.contains(TaskField.VERSION.entityField());
+        List<String> selected = versionRequested
+                ? attributes
+                : Stream.concat(attributes.stream(), Stream.of(TaskField.VERSION.entityField())).toList();
+        return taskService.getTaskAttributesById(id, selected)
+                .map(task -> {
+                    Object version = versionRequested
+                            ? task.get(TaskField.VERSION.entityField())
+                            : task.remove(TaskField.VERSION.entityField());
+                    return ResponseEntity.ok().eTag(TaskMapper.toETag(id, (Long) version)).body(task);
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -52,39 +125,195 @@ public class TaskController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "ID") TaskSortBy sortBy,
-            @RequestParam(defaultValue = "ASC") SortDirection direction) {
+            @RequestParam(defaultValue = "ASC") SortDirection direction,
+            @RequestParam(defaultValue = "EXACT") TaskCountMode count,
+            @RequestParam(required = false) List<TaskField> fields,
+            TaskFilterRequest filterRequest,
+            WebRequest request) {
         if (page < 0) {
             throw new IllegalArgumentException("page must be >= 0");
         }
-        if (size < 1 || size > 100) {
-            throw new IllegalArgumentException("size must be between 1 and 100");
+        validatePageSize(size);
+        List<String> attributes = fields == null ? null : TaskField.toEntityFields(fields);
+        Sort sort = sortBy.toSort(direction);
+        TaskFilter filter = TaskMapper.toFilter(filterRequest);
+        Pageable pageable = PageRequest.of(page, size, sort);
+        if (count == TaskCountMode.MAINTAINED && !filter.filtersOnlyByStatus()) {
+            throw new IllegalArgumentException("count=maintained only supports the status filter");
         }
 
-        Sort sort = Sort.by(direction.toSpringDirection(), sortBy.entityField());
+        // Only once the request is known to be valid, so a bad request with a matching If-None-Match is still a 400.
+        // Page parameters are part of the URL, so the collection validator alone identifies the representation.
+        String eTag = TaskMapper.toETag(taskService.getCollectionVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
 
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<TaskResponse> taskPage = taskService.getAllTasks(pageable).map(TaskMapper::toResponse);
+        if (count == TaskCountMode.EXACT) {
+            Page<?> taskPage = attributes == null
+                    ? taskService.getAllTasks(filter, pageable, TaskResponse.class)
+                    : taskService.getAllTaskAttributes(filter, pageable, attributes);
+
+            TaskPageResponse response = new TaskPageResponse(
+                    taskPage.getContent(),
+                    taskPage.getNumber(),
+                    taskPage.getSize(),
+                    taskPage.getTotalElements(),
+                    taskPage.getTotalPages(),
+                    taskPage.isFirst(),
+                    taskPage.isLast());
+
+            return ResponseEntity.ok().eTag(eTag).body(response);
+        }
+
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (count == TaskCountMode.MAINTAINED) {
+            totalElements = taskService.countTasks(filter);
+            totalPages = (int) ((totalElements + size - 1) / size);
+        }
+        Slice<?> taskSlice = attributes == null
+                ? taskService.getTaskSlice(filter, pageable, TaskResponse.class)
+                : taskService.getTaskSliceAttributes(filter, pageable, attributes);
 
         TaskPageResponse response = new TaskPageResponse(
-                taskPage.getContent(),
-                taskPage.getNumber(),
-                taskPage.getSize(),
-                taskPage.getTotalElements(),
-                taskPage.getTotalPages(),
-                taskPage.isFirst(),
-                taskPage.isLast());
+                taskSlice.getContent(),
+                taskSlice.getNumber(),
+                taskSlice.getSize(),
+                totalElements,
+                totalPages,
+                taskSlice.isFirst(),
+                taskSlice.isLast());
+
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+
+    @GetMapping("/counts")
+    public ResponseEntity<TaskCountsResponse> getTaskCounts() {
+        Map<TaskStatus, Long> byStatus = taskService.getTaskCounts();
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return ResponseEntity.ok(new TaskCountsResponse(total, byStatus));
+    }
+
+    @GetMapping(params = "after")
+    public ResponseEntity<TaskCursorPageResponse> getTasksAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "ID") TaskSortBy sortBy,
+            @RequestParam(defaultValue = "ASC") SortDirection direction,
+            @RequestParam(required = false) List<TaskField> fields,
+            TaskFilterRequest filterRequest) {
+        validatePageSize(size);
+        if (fields != null) {
+            throw new IllegalArgumentException("fields is not supported with after");
+        }
+
+        ScrollPosition position = ScrollPosition.keyset();
+        if (!after.isBlank()) {
+            TaskCursor cursor = TaskCursor.decode(after);
+            if (cursor.sortBy() != sortBy || cursor.direction() != direction) {
+                throw new IllegalArgumentException("after cursor does not match sortBy and direction");
+            }
+            position = cursor.toScrollPosition();
+        }
+
+        Sort sort = sortBy.toSort(direction);
+        Window<Task> window = taskService.scrollTasks(TaskMapper.toFilter(filterRequest), position, sort, size);
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            Task last = window.getContent().get(window.size() - 1);
+            nextCursor = TaskCursor.of(last, sortBy, direction).encode();
+        }
+
+        TaskCursorPageResponse response = new TaskCursorPageResponse(
+                window.map(TaskMapper::toResponse).getContent(),
+                size,
+                window.hasNext(),
+                nextCursor);
+
+        return ResponseEntity.ok(response);
+    }
+
+    // Not size-capped: the body is written row by row from a database cursor after the handler returns
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "NDJSON") TaskFileFormat format,
+            TaskFilterRequest filterRequest) {
+        TaskFilter filter = TaskMapper.toFilter(filterRequest);
+
+        StreamingResponseBody body = out -> {
+            TaskExportWriter writer = new TaskExportWriter(format, objectMapper,
+                    new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            writer.writeHeader();
+            taskService.exportTasks(filter, TaskResponse.class, writer);
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + format.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must be >= 0");
+        }
+        validatePageSize(size);
+
+        Slice<TaskSearchResult> results = taskService.searchTasks(new TaskSearchQuery(q), PageRequest.of(page, size));
+        TaskSearchResponse response = new TaskSearchResponse(
+                results.map(TaskMapper::toSearchItemResponse).getContent(),
+                page,
+                size,
+                results.hasNext());
 
         return ResponseEntity.ok(response);
     }
 
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest request) {
-        Task created = taskService.createTask(TaskMapper.toEntity(request));
+        Task task = TaskMapper.toEntity(request);
+        Task created = taskWriteCoordinator.execute(() -> taskService.createTask(task));
         return ResponseEntity.status(HttpStatus.CREATED).body(TaskMapper.toResponse(created));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> createTasks(@Valid @RequestBody TaskBatchRequest request) {
+        List<Task> tasks = request.tasks().stream().map(TaskMapper::toEntity).toList();
+        List<TaskBatchResult> results = taskWriteCoordinator.execute(() -> taskService.createTasks(tasks));
+
+        List<TaskBatchItemResponse> items = results.stream()
+                .map(result -> new TaskBatchItemResponse(
+                        result.index(),
+                        result.isCreated() ? result.task().getId() : null,
+                        result.error()))
+                .toList();
+        int created = (int) results.stream().filter(TaskBatchResult::isCreated).count();
+        TaskBatchResponse response = new TaskBatchResponse(created, results.size() - created, items);
+
+        HttpStatus status = created == results.size() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @PatchMapping
+    public ResponseEntity<TaskBulkUpdateResponse> bulkUpdateTasks(@Valid @RequestBody TaskBulkUpdateRequest request) {
+        TaskBulkUpdate update = TaskMapper.toBulkUpdate(request);
+        int updated = taskWriteCoordinator.execute(() -> taskService.bulkUpdateTasks(update));
+        return ResponseEntity.ok(new TaskBulkUpdateResponse(updated));
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTaskStatus(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskUpdateRequest request) {
         if (request.title() == null
                 && request.description() == null
@@ -92,15 +321,45 @@ public class TaskController {
                 && request.dueDate() == null) {
             throw new IllegalArgumentException("At least one field must be provided for patch update");
         }
+        Long expectedVersion = TaskMapper.fromIfMatch(id, ifMatch);
         Task entity = TaskMapper.toEntity(request);
         entity.setId(id);
-        Task updated = taskService.updateTask(entity);
-        return ResponseEntity.ok(TaskMapper.toResponse(updated));
+        Task updated = taskWriteCoordinator.execute(id, () -> taskService.updateTask(entity, expectedVersion));
+        return ResponseEntity.ok()
+                .eTag(TaskMapper.toETag(updated.getId(), updated.getVersion()))
+                .body(TaskMapper.toResponse(updated));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
-        taskService.deleteTask(id);
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = TaskMapper.fromIfMatch(id, ifMatch);
+        taskWriteCoordinator.execute(id, () -> {
+            taskService.deleteTask(id, expectedVersion);
+            return null;
+        });
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<TaskBulkDeleteResponse> deleteTasks(@RequestParam List<Long> ids) {
+        int deleted = taskWriteCoordinator.execute(() -> taskService.deleteTasks(ids));
+        return ResponseEntity.ok(new TaskBulkDeleteResponse(deleted));
+    }
+
+    // Answers If-None-Match from the version alone, before the task is loaded
+    private boolean isNotModified(Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            return false;
+        }
+        Optional<Long> version = taskService.getTaskVersion(id);
+        // checkNotModified sets 304 and the ETag header when it returns true
+        return version.isPresent() && request.checkNotModified(TaskMapper.toETag(id, version.get()));
+    }
+
+    private static void validatePageSize(int size) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("size must be between 1 and 100");
+        }
+    }
 }
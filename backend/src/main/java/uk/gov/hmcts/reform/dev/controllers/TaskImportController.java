@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import uk.gov.hmcts.reform.dev.api.TaskFileFormat;
+import uk.gov.hmcts.reform.dev.api.TaskImportReader;
+import uk.gov.hmcts.reform.dev.api.TaskImportResponse;
+import uk.gov.hmcts.reform.dev.api.TaskMapper;
+import uk.gov.hmcts.reform.dev.services.TaskImportResult;
+import uk.gov.hmcts.reform.dev.services.TaskImportService;
+
+// An import is created first, then its file is uploaded with PUT. If the upload fails part way, PUT the same
+// file again: rows up to rowsCommitted are skipped and the import carries on from there.
+@RestController
+@RequestMapping("/tasks/imports")
+public class TaskImportController {
+
+    private final TaskImportService taskImportService;
+    private final ObjectMapper objectMapper;
+
+    public TaskImportController(TaskImportService taskImportService, ObjectMapper objectMapper) {
+        this.taskImportService = taskImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<TaskImportResponse> createImport() {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(TaskMapper.toImportResponse(taskImportService.createImport()));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<TaskImportResponse> uploadImport(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "NDJSON") TaskFileFormat format,
+            InputStream body) throws IOException {
+        // Fail fast on an unknown id before reading anything
+        taskImportService.getImport(id);
+        TaskImportReader rows = new TaskImportReader(format, objectMapper,
+                new InputStreamReader(body, StandardCharsets.UTF_8));
+        TaskImportResult result = taskImportService.runImport(id, rows);
+        return ResponseEntity.ok(TaskMapper.toImportResponse(result));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskImportResponse> getImport(@PathVariable Long id) {
+        return ResponseEntity.ok(TaskMapper.toImportResponse(taskImportService.getImport(id)));
+    }
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import uk.gov.hmcts.reform.dev.api.TaskStreamWriter;
+import uk.gov.hmcts.reform.dev.services.TaskChangeFeed;
+
+@RestController
+@RequestMapping("/tasks/stream")
+public class TaskStreamController {
+
+    private final TaskChangeFeed taskChangeFeed;
+
+    public TaskStreamController(TaskChangeFeed taskChangeFeed) {
+        this.taskChangeFeed = taskChangeFeed;
+    }
+
+    // The emitter uses spring.mvc.async.request-timeout; when it expires the browser reconnects with
+    // Last-Event-ID and carries on from the replay buffer
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = new SseEmitter();
+        TaskChangeFeed.Subscription subscription =
+                taskChangeFeed.subscribe(lastEventId, new TaskStreamWriter(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+}
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.dev.exceptions;
 
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -34,6 +36,33 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex.getMessage(), HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleVersionMismatch(TaskVersionMismatchException ex) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // Only reached once TaskWriteCoordinator has run out of retries
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleConcurrencyFailure(ConcurrencyFailureException ex) {
+        return buildErrorResponse("Task is being modified concurrently, please retry", HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(TaskChangesExpiredException.class)
+    public ResponseEntity<Map<String, Object>> handleChangesExpired(TaskChangesExpiredException ex) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.GONE);
+    }
+
+    @ExceptionHandler(TaskWriteRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleWriteRejected(TaskWriteRejectedException ex) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // Includes timing out in the queue for a database connection
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleDatabaseUnavailable(DataAccessResourceFailureException ex) {
+        return buildErrorResponse("Database is busy, please retry", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<Map<String, Object>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
         return buildErrorResponse("Invalid parameter: " + ex.getName(), HttpStatus.BAD_REQUEST);
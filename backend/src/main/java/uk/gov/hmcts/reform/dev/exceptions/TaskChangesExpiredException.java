@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+public class TaskChangesExpiredException extends RuntimeException {
+    public TaskChangesExpiredException(long since) {
+        super("Changes after " + since + " are no longer available, sync again from 0");
+    }
+}
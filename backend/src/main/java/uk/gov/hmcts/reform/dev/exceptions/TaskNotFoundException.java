@@ -4,4 +4,8 @@ public class TaskNotFoundException extends RuntimeException {
     public TaskNotFoundException(Long id) {
         super("Task not found with id " + id);
     }
+
+    public TaskNotFoundException(String message) {
+        super(message);
+    }
 }
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+public class TaskVersionMismatchException extends RuntimeException {
+    public TaskVersionMismatchException(Long id) {
+        super("Task " + id + " does not match the supplied If-Match version");
+    }
+}
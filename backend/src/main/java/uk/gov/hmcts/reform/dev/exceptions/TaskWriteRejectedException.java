@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+public class TaskWriteRejectedException extends RuntimeException {
+    public TaskWriteRejectedException(String message) {
+        super(message);
+    }
+}
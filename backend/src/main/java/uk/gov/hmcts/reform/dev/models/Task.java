@@ -102,4 +102,12 @@ public class Task {
     public Long getVersion() {
         return version;
     }
+
+    // For rows written with plain JDBC (TaskBatchRepositoryImpl), where Hibernate does not fill these in
+    public void markInserted(Long id, LocalDateTime insertedAt) {
+        this.id = id;
+        this.version = 0L;
+        this.createdAt = insertedAt;
+        this.updatedAt = insertedAt;
+    }
 }
@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+// Appended by the task_change_* triggers in V9__create_task_change.sql; the app only reads and compacts it
+@Entity
+@Immutable
+@Table(name = "task_change")
+public class TaskChange {
+
+    @Id
+    @Column(columnDefinition = "INTEGER")
+    private Long seq;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private TaskChangeType type;
+
+    private Long version;
+
+    // Epoch seconds
+    @Column(nullable = false)
+    private long changedAt;
+
+    public TaskChange() {
+
+    }
+
+    public TaskChange(Long seq, Long taskId, TaskChangeType type, Long version, long changedAt) {
+        this.seq = seq;
+        this.taskId = taskId;
+        this.type = type;
+        this.version = version;
+        this.changedAt = changedAt;
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public TaskChangeType getType() {
+        return type;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public long getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.models;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
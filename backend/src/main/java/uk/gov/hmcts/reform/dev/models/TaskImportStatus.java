@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.dev.models;
+
+public enum TaskImportStatus {
+    PENDING,
+    RUNNING,
+    FAILED,
+    COMPLETED
+}
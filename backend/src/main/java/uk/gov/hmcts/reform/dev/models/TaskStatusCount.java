@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+// Maintained by the task_status_count_* triggers in V3__create_task_status_count.sql; never written by the app
+@Entity
+@Immutable
+@Table(name = "task_status_count")
+public class TaskStatusCount {
+
+    @Id
+    @Column(length = 50)
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    private long total;
+
+    public TaskStatusCount() {
+
+    }
+
+    public TaskStatusCount(TaskStatus status, long total) {
+        this.status = status;
+        this.total = total;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
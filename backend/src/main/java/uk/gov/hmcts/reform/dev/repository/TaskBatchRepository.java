@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.util.List;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+public interface TaskBatchRepository {
+
+    void insertAll(List<Task> tasks);
+
+    // The tasks updateAll would change, by the same selection and skip rules
+    List<Long> findUpdatableIds(TaskBulkUpdate update);
+
+    int updateAll(TaskBulkUpdate update);
+}
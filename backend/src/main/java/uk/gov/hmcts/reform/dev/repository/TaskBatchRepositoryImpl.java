@@ -0,0 +1,154 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.hibernate.Session;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+public class TaskBatchRepositoryImpl implements TaskBatchRepository {
+
+    private static final int JDBC_BATCH_SIZE = 500;
+
+    // Ids are reserved from the AUTOINCREMENT counter inside the caller's transaction. Hibernate's
+    // pooled table generators allocate in a separate transaction, which deadlocks on SQLite's single
+    // write lock once the batch transaction has started writing.
+    private static final String RESERVE_IDS =
+            "UPDATE sqlite_sequence SET seq = seq + ? WHERE name = 'task'";
+    private static final String SEED_SEQUENCE =
+            "INSERT INTO sqlite_sequence (name, seq) SELECT 'task', COALESCE(MAX(id), 0) + ? FROM task";
+    private static final String LAST_RESERVED_ID =
+            "SELECT seq FROM sqlite_sequence WHERE name = 'task'";
+    private static final String INSERT_TASK =
+            "INSERT INTO task (id, version, title, description, status, due_date, created_at, updated_at) "
+                    + "VALUES (?, 0, ?, ?, ?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<Task> tasks) {
+        if (tasks == null || tasks.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> insertAll(connection, tasks));
+    }
+
+    @Override
+    public List<Long> findUpdatableIds(TaskBulkUpdate update) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteria = builder.createQuery(Long.class);
+        Root<Task> task = criteria.from(Task.class);
+        criteria.select(task.get("id")).where(selection(builder, task, update));
+        return entityManager.createQuery(criteria).getResultList();
+    }
+
+    @Override
+    public int updateAll(TaskBulkUpdate update) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> criteria = builder.createCriteriaUpdate(Task.class);
+        Root<Task> task = criteria.from(Task.class);
+        if (update.status() != null) {
+            criteria.set(task.<TaskStatus>get("status"), update.status());
+        }
+        if (update.dueDate() != null) {
+            criteria.set(task.<LocalDateTime>get("dueDate"), update.dueDate());
+        }
+        // Bulk statements bypass @Version and @UpdateTimestamp, so both are maintained explicitly
+        Path<Long> version = task.get("version");
+        Path<LocalDateTime> updatedAt = task.get("updatedAt");
+        criteria.set(version, builder.sum(version, 1L));
+        criteria.set(updatedAt, LocalDateTime.now());
+        criteria.where(selection(builder, task, update));
+
+        return entityManager.createQuery(criteria).executeUpdate();
+    }
+
+    private static Predicate[] selection(CriteriaBuilder builder, Root<Task> task, TaskBulkUpdate update) {
+        Path<TaskStatus> status = task.get("status");
+        List<Predicate> where = new ArrayList<>();
+        if (update.ids() != null) {
+            where.add(task.get("id").in(update.ids()));
+        }
+        if (update.dueBefore() != null) {
+            where.add(builder.lessThan(task.<LocalDateTime>get("dueDate"), update.dueBefore()));
+        }
+        if (update.currentStatus() != null) {
+            where.add(builder.equal(status, update.currentStatus()));
+        }
+        if (update.status() != null) {
+            if (update.status() != TaskStatus.COMPLETED) {
+                // COMPLETED is terminal, same rule as TaskService.updateTask
+                where.add(builder.notEqual(status, TaskStatus.COMPLETED));
+            }
+            if (update.dueDate() == null) {
+                // Skip rows already in the target state so they keep their version
+                where.add(builder.notEqual(status, update.status()));
+            }
+        }
+        return where.toArray(new Predicate[0]);
+    }
+
+    private static void insertAll(Connection connection, List<Task> tasks) throws SQLException {
+        long firstId = reserveIds(connection, tasks.size());
+        // The driver stores timestamps to the millisecond, so the entities get exactly what was written
+        LocalDateTime insertedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Timestamp now = Timestamp.valueOf(insertedAt);
+
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_TASK)) {
+            for (int i = 0; i < tasks.size(); i++) {
+                Task task = tasks.get(i);
+                task.markInserted(firstId + i, insertedAt);
+
+                insert.setLong(1, task.getId());
+                insert.setString(2, task.getTitle());
+                insert.setString(3, task.getDescription());
+                insert.setString(4, task.getStatus().name());
+                insert.setTimestamp(5, Timestamp.valueOf(task.getDueDate()));
+                insert.setTimestamp(6, now);
+                insert.setTimestamp(7, now);
+                insert.addBatch();
+
+                if ((i + 1) % JDBC_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static long reserveIds(Connection connection, int count) throws SQLException {
+        try (PreparedStatement reserve = connection.prepareStatement(RESERVE_IDS)) {
+            reserve.setInt(1, count);
+            if (reserve.executeUpdate() == 0) {
+                try (PreparedStatement seed = connection.prepareStatement(SEED_SEQUENCE)) {
+                    seed.setInt(1, count);
+                    seed.executeUpdate();
+                }
+            }
+        }
+        try (PreparedStatement select = connection.prepareStatement(LAST_RESERVED_ID);
+             ResultSet rs = select.executeQuery()) {
+            rs.next();
+            return rs.getLong(1) - count + 1;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+// Selects tasks by ids or by dueBefore (optionally narrowed by currentStatus) and applies status/dueDate to all of them
+public record TaskBulkUpdate(
+        List<Long> ids,
+        LocalDateTime dueBefore,
+        TaskStatus currentStatus,
+        TaskStatus status,
+        LocalDateTime dueDate) {
+}
@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import uk.gov.hmcts.reform.dev.models.TaskChange;
+
+public interface TaskChangeRepository extends JpaRepository<TaskChange, Long> {
+
+    // A primary-key range scan, so the cost is the number of changes returned, not the size of the log
+    Slice<TaskChange> findBySeqGreaterThan(long seq, Pageable pageable);
+
+    @Query("select coalesce(max(c.seq), 0) from TaskChange c")
+    long findLatestSeq();
+
+    @Query(value = "SELECT compacted_through FROM task_change_compaction WHERE id = 1", nativeQuery = true)
+    long findCompactedThrough();
+
+    @Query(value = "SELECT purged_through FROM task_change_compaction WHERE id = 1", nativeQuery = true)
+    long findPurgedThrough();
+
+    // Drops every entry that a change in (fromSeq, toSeq] supersedes. Looking back from the newer entry means an
+    // old entry is caught even when it sits behind an earlier compaction pass.
+    @Modifying
+    @Query(value = "DELETE FROM task_change WHERE seq IN ("
+            + "SELECT old.seq FROM task_change c "
+            + "JOIN task_change old ON old.task_id = c.task_id AND old.seq < c.seq "
+            + "WHERE c.seq > :fromSeq AND c.seq <= :toSeq)", nativeQuery = true)
+    int deleteSuperseded(@Param("fromSeq") long fromSeq, @Param("toSeq") long toSeq);
+
+    @Modifying
+    @Query(value = "UPDATE task_change_compaction SET compacted_through = :toSeq WHERE id = 1", nativeQuery = true)
+    int markCompactedThrough(@Param("toSeq") long toSeq);
+
+    // Must run before deleteTombstones with the same arguments, in the same write, so both see the same rows
+    @Modifying
+    @Query(value = "UPDATE task_change_compaction SET purged_through = MAX(purged_through, COALESCE(("
+            + "SELECT MAX(seq) FROM (SELECT seq FROM task_change "
+            + "WHERE type = 'DELETED' AND changed_at < :cutoff ORDER BY seq LIMIT :batchSize)), 0)) "
+            + "WHERE id = 1", nativeQuery = true)
+    int markPurgedThrough(@Param("cutoff") long cutoff, @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_change WHERE seq IN ("
+            + "SELECT seq FROM task_change WHERE type = 'DELETED' AND changed_at < :cutoff "
+            + "ORDER BY seq LIMIT :batchSize)", nativeQuery = true)
+    int deleteTombstones(@Param("cutoff") long cutoff, @Param("batchSize") int batchSize);
+}
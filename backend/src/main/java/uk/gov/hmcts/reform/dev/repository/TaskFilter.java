@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.criteria.Predicate;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+// List filters. Every predicate is a plain comparison on an indexed column (status, due_date, updated_at,
+// created_at), so SQLite can narrow with an index instead of scanning.
+public record TaskFilter(
+        Set<TaskStatus> statuses,
+        LocalDateTime dueBefore,
+        LocalDateTime dueAfter,
+        LocalDateTime createdAfter,
+        LocalDateTime updatedAfter) {
+
+    public static final TaskFilter NONE = new TaskFilter(null, null, null, null, null);
+
+    public TaskFilter {
+        statuses = statuses == null || statuses.isEmpty() ? Set.of() : Set.copyOf(statuses);
+        if (dueBefore != null && dueAfter != null && !dueAfter.isBefore(dueBefore)) {
+            throw new IllegalArgumentException("dueAfter must be before dueBefore");
+        }
+    }
+
+    public boolean isEmpty() {
+        return statuses.isEmpty() && filtersOnlyByStatus();
+    }
+
+    public boolean filtersOnlyByStatus() {
+        return dueBefore == null && dueAfter == null && createdAfter == null && updatedAfter == null;
+    }
+
+    public Specification<Task> toSpecification() {
+        return (root, query, builder) -> {
+            List<Predicate> where = new ArrayList<>();
+            if (!statuses.isEmpty()) {
+                where.add(root.get("status").in(statuses));
+            }
+            if (dueBefore != null) {
+                where.add(builder.lessThan(root.get("dueDate"), dueBefore));
+            }
+            if (dueAfter != null) {
+                where.add(builder.greaterThan(root.get("dueDate"), dueAfter));
+            }
+            if (createdAfter != null) {
+                where.add(builder.greaterThan(root.get("createdAt"), createdAfter));
+            }
+            if (updatedAfter != null) {
+                where.add(builder.greaterThan(root.get("updatedAt"), updatedAfter));
+            }
+            return where.isEmpty() ? null : builder.and(where.toArray(new Predicate[0]));
+        };
+    }
+}
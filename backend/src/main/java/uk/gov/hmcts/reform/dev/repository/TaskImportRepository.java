@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import uk.gov.hmcts.reform.dev.models.TaskImport;
+import uk.gov.hmcts.reform.dev.models.TaskImportStatus;
+
+public interface TaskImportRepository extends JpaRepository<TaskImport, Long> {
+
+    // Matches only while the checkpoint is still expectedRows, so two uploads of the same import cannot
+    // both apply a chunk
+    @Modifying
+    @Query("update TaskImport i set i.rowsCommitted = i.rowsCommitted + :rows, i.created = i.created + :created, "
+            + "i.rejected = i.rejected + :rejected, i.status = :running, i.updatedAt = :now "
+            + "where i.id = :id and i.rowsCommitted = :expectedRows "
+            + "and i.status <> uk.gov.hmcts.reform.dev.models.TaskImportStatus.COMPLETED")
+    int advance(@Param("id") Long id, @Param("expectedRows") long expectedRows, @Param("rows") long rows,
+                @Param("created") long created, @Param("rejected") long rejected,
+                @Param("running") TaskImportStatus running, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update TaskImport i set i.status = :status, i.lastError = :error, i.updatedAt = :now "
+            + "where i.id = :id and i.status <> uk.gov.hmcts.reform.dev.models.TaskImportStatus.COMPLETED")
+    int updateStatus(@Param("id") Long id, @Param("status") TaskImportStatus status,
+                     @Param("error") String error, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+// Read-only list queries that select straight into type through a constructor expression, so no Task
+// entities are created, snapshotted or dirty-checked. type needs a constructor taking
+// (id, version, title, description, status, dueDate, createdAt, updatedAt), like TaskResponse.
+public interface TaskListRepository {
+
+    <T> Page<T> findPage(Specification<Task> specification, Pageable pageable, Class<T> type);
+
+    // Fetches size + 1 rows to detect a next page and never issues a COUNT query
+    <T> Slice<T> findSlice(Specification<Task> specification, Pageable pageable, Class<T> type);
+
+    // Sparse variants: only the named Task attributes are selected, and each row maps them in the given order
+    Page<Map<String, Object>> findAttributePage(Specification<Task> specification, Pageable pageable,
+                                                List<String> attributes);
+
+    Slice<Map<String, Object>> findAttributeSlice(Specification<Task> specification, Pageable pageable,
+                                                  List<String> attributes);
+
+    Optional<Map<String, Object>> findAttributesById(Long id, List<String> attributes);
+
+    // Forward-only cursor over every matching row, handed to action one at a time and never collected
+    <T> long forEach(Specification<Task> specification, Sort sort, Class<T> type, Consumer<? super T> action);
+}
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+public class TaskListRepositoryImpl implements TaskListRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "version", "title", "description", "status", "dueDate", "createdAt", "updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public <T> Page<T> findPage(Specification<Task> specification, Pageable pageable, Class<T> type) {
+        return page(construct(specification, pageable, type, pageable.getPageSize()), specification, pageable);
+    }
+
+    @Override
+    public <T> Slice<T> findSlice(Specification<Task> specification, Pageable pageable, Class<T> type) {
+        return slice(construct(specification, pageable, type, pageable.getPageSize() + 1), pageable);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findAttributePage(Specification<Task> specification, Pageable pageable,
+                                                       List<String> attributes) {
+        return page(attributes(specification, pageable, attributes, pageable.getPageSize()), specification, pageable);
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findAttributeSlice(Specification<Task> specification, Pageable pageable,
+                                                         List<String> attributes) {
+        return slice(attributes(specification, pageable, attributes, pageable.getPageSize() + 1), pageable);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findAttributesById(Long id, List<String> attributes) {
+        Specification<Task> byId = (root, query, builder) -> builder.equal(root.get("id"), id);
+        return attributes(byId, Pageable.ofSize(1), attributes, 1).stream().findFirst();
+    }
+
+    @Override
+    public <T> long forEach(Specification<Task> specification, Sort sort, Class<T> type,
+                            Consumer<? super T> action) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(type);
+        Root<Task> task = query.from(Task.class);
+        query.select(constructor(builder, task, type));
+        where(query, task, builder, specification);
+        query.orderBy(QueryUtils.toOrders(sort, task, builder));
+
+        // Constructor results never enter the persistence context, so nothing accumulates as the cursor advances
+        long count = 0;
+        try (Stream<T> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream()) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private <T> List<T> construct(Specification<Task> specification, Pageable pageable, Class<T> type, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(type);
+        Root<Task> task = query.from(Task.class);
+        query.select(constructor(builder, task, type));
+        return fetch(query, task, builder, specification, pageable, limit);
+    }
+
+    private static <T> Selection<T> constructor(CriteriaBuilder builder, Root<Task> task, Class<T> type) {
+        return builder.construct(type, COLUMNS.stream()
+                .map(column -> task.get(column))
+                .toArray(Selection<?>[]::new));
+    }
+
+    private List<Map<String, Object>> attributes(Specification<Task> specification, Pageable pageable,
+                                                 List<String> attributes, int limit) {
+        if (attributes == null || attributes.isEmpty() || !COLUMNS.containsAll(attributes)) {
+            throw new IllegalArgumentException("attributes must be a non-empty subset of " + COLUMNS);
+        }
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+        query.multiselect(attributes.stream()
+                .<Selection<?>>map(attribute -> task.get(attribute).alias(attribute))
+                .toList());
+        return fetch(query, task, builder, specification, pageable, limit).stream()
+                .map(tuple -> toMap(tuple, attributes))
+                .toList();
+    }
+
+    private <R> List<R> fetch(CriteriaQuery<R> query, Root<Task> task, CriteriaBuilder builder,
+                              Specification<Task> specification, Pageable pageable, int limit) {
+        where(query, task, builder, specification);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), task, builder));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private <R> Page<R> page(List<R> content, Specification<Task> specification, Pageable pageable) {
+        // Skips the COUNT when the page itself shows the total, e.g. a short first page
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    private static <R> Slice<R> slice(List<R> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<R> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private long count(Specification<Task> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(builder.count(task));
+        where(query, task, builder, specification);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple, List<String> attributes) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        attributes.forEach(attribute -> row.put(attribute, tuple.get(attribute)));
+        return row;
+    }
+
+    private static void where(CriteriaQuery<?> query, Root<Task> task, CriteriaBuilder builder,
+                              Specification<Task> specification) {
+        if (specification == null) {
+            return;
+        }
+        Predicate where = specification.toPredicate(task, query, builder);
+        if (where != null) {
+            query.where(where);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.util.Optional;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+public interface TaskPatchRepository {
+
+    Optional<Task> patch(Task changes, Long expectedVersion);
+}
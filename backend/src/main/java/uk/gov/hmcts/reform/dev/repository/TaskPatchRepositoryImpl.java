@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+public class TaskPatchRepositoryImpl implements TaskPatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Compiles the non-null fields of changes into one conditional UPDATE ... RETURNING, so a PATCH costs a single
+    // statement and no row is read before it is written. An empty result means the id is missing, the row is
+    // COMPLETED and the change would move it to another status, or expectedVersion (when given) is stale.
+    @Override
+    public Optional<Task> patch(Task changes, Long expectedVersion) {
+        StringJoiner assignments = new StringJoiner(", ");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (changes.getTitle() != null) {
+            assignments.add("title = :title");
+            parameters.put("title", changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            assignments.add("description = :description");
+            parameters.put("description", changes.getDescription());
+        }
+        if (changes.getStatus() != null) {
+            assignments.add("status = :status");
+            parameters.put("status", changes.getStatus().name());
+        }
+        if (changes.getDueDate() != null) {
+            assignments.add("due_date = :dueDate");
+            parameters.put("dueDate", changes.getDueDate());
+        }
+        assignments.add("version = version + 1");
+        assignments.add("updated_at = :updatedAt");
+        parameters.put("updatedAt", LocalDateTime.now());
+        parameters.put("id", changes.getId());
+
+        String sql = "UPDATE task SET " + assignments + " WHERE id = :id";
+        if (changes.getStatus() != null && changes.getStatus() != TaskStatus.COMPLETED) {
+            sql += " AND status <> 'COMPLETED'";
+        }
+        if (expectedVersion != null) {
+            sql += " AND version = :expectedVersion";
+            parameters.put("expectedVersion", expectedVersion);
+        }
+        sql += " RETURNING *";
+
+        Query query = entityManager.createNativeQuery(sql, Task.class);
+        parameters.forEach(query::setParameter);
+        List<?> updated = query.getResultList();
+        return updated.stream().map(Task.class::cast).findFirst();
+    }
+}
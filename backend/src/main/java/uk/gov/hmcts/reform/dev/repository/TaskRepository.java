@@ -1,7 +1,44 @@
 package uk.gov.hmcts.reform.dev.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskBatchRepository, TaskPatchRepository, TaskListRepository, TaskSearchRepository {
+
+    List<Task> findByStatusNotAndDueDateBetween(TaskStatus status, LocalDateTime from, LocalDateTime to,
+                                                Pageable pageable);
+
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select max(t.updatedAt) from Task t")
+    Optional<LocalDateTime> findLastUpdatedAt();
+
+    @Query("select t.id from Task t where t.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Unlike deleteById, these issue a single DELETE without loading the entities first
+    @Modifying
+    @Query("delete from Task t where t.id = :id")
+    int deleteTask(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Task t where t.id = :id and t.version = :version")
+    int deleteTask(@Param("id") Long id, @Param("version") Long version);
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+    @Modifying
+    @Query("delete from Task t where t.id in :ids")
+    int deleteTasks(@Param("ids") Collection<Long> ids);
 }
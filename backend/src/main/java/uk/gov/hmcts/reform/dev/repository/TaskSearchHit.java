@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+// Matched terms in titleHighlight and snippet are wrapped in MATCH_START / MATCH_END
+public record TaskSearchHit(Long id, String titleHighlight, String snippet) {
+
+    public static final String MATCH_START = "\u0002";
+    public static final String MATCH_END = "\u0003";
+}
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Free-text search input. Each whitespace-separated term becomes a quoted FTS5 prefix query, so user
+// input can never be parsed as FTS5 syntax (NEAR, column filters, unbalanced quotes) and fail the MATCH.
+public record TaskSearchQuery(String text) {
+
+    public static final int MAX_LENGTH = 200;
+    public static final int MAX_TERMS = 10;
+
+    public TaskSearchQuery {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("q must not be blank");
+        }
+        if (text.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("q must be at most " + MAX_LENGTH + " characters");
+        }
+        List<String> terms = terms(text);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("q must contain at least one letter or digit");
+        }
+        if (terms.size() > MAX_TERMS) {
+            throw new IllegalArgumentException("q must have at most " + MAX_TERMS + " terms");
+        }
+    }
+
+    // Terms are ANDed together; the trailing * lets "rep" match "report"
+    public String toMatchExpression() {
+        return String.join(" ", terms(text).stream()
+                .map(term -> "\"" + term.replace("\"", "\"\"") + "\"*")
+                .toList());
+    }
+
+    private static List<String> terms(String text) {
+        return Arrays.stream(text.trim().split("\\s+"))
+                .filter(term -> term.codePoints().anyMatch(Character::isLetterOrDigit))
+                .toList();
+    }
+}
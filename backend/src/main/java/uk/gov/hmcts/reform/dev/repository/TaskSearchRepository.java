@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface TaskSearchRepository {
+
+    // Best match first. Requires the task_search FTS5 table, so SQLite only
+    Slice<TaskSearchHit> search(TaskSearchQuery query, Pageable pageable);
+}
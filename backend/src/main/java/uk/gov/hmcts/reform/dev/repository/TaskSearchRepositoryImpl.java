@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    // rank is bm25 weighted towards the title (configured in V7); char(2)/char(3) mark the matched terms
+    private static final String SEARCH =
+            "SELECT rowid, highlight(task_search, 0, char(2), char(3)), "
+                    + "snippet(task_search, 1, char(2), char(3), '…', 16) "
+                    + "FROM task_search WHERE task_search MATCH ? ORDER BY rank LIMIT ? OFFSET ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<TaskSearchHit> search(TaskSearchQuery query, Pageable pageable) {
+        List<TaskSearchHit> rows = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> search(connection, query, pageable));
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<TaskSearchHit> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private static List<TaskSearchHit> search(Connection connection, TaskSearchQuery query, Pageable pageable)
+            throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(SEARCH)) {
+            select.setString(1, query.toMatchExpression());
+            select.setInt(2, pageable.getPageSize() + 1);
+            select.setLong(3, pageable.getOffset());
+            List<TaskSearchHit> hits = new ArrayList<>();
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    String snippet = rs.getString(3);
+                    hits.add(new TaskSearchHit(rs.getLong(1), rs.getString(2),
+                            snippet == null || snippet.isEmpty() ? null : snippet));
+                }
+            }
+            return hits;
+        }
+    }
+}
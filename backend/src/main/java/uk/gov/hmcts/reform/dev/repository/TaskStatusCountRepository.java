@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskStatusCount;
+
+public interface TaskStatusCountRepository extends JpaRepository<TaskStatusCount, TaskStatus> {
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+public record TaskBatchResult(int index, Task task, String error) {
+
+    public static TaskBatchResult created(int index, Task task) {
+        return new TaskBatchResult(index, task, null);
+    }
+
+    public static TaskBatchResult rejected(int index, String error) {
+        return new TaskBatchResult(index, null, error);
+    }
+
+    public boolean isCreated() {
+        return error == null;
+    }
+}
@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import uk.gov.hmcts.reform.dev.config.TaskCacheProperties;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+@Component
+public class TaskCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCache.class);
+    static final String CACHE_NAME = "tasks";
+
+    private final TaskCacheProperties properties;
+    private final TaskRepository taskRepository;
+    private final Cache<Long, Task> cache;
+    // Advanced by every invalidation, so a read-through load that started before it can never repopulate the entry
+    private final AtomicLong epoch = new AtomicLong();
+
+    public TaskCache(TaskCacheProperties properties, TaskRepository taskRepository, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.taskRepository = taskRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.timeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<Task> get(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    public long epoch() {
+        return epoch.get();
+    }
+
+    // Read-through population: dropped if anything was invalidated since loadEpoch or a newer version is cached
+    public void putIfFresh(Task task, long loadEpoch) {
+        cache.asMap().compute(task.getId(), (id, cached) -> {
+            if (epoch.get() != loadEpoch) {
+                return cached;
+            }
+            return newer(task, cached);
+        });
+    }
+
+    public void refresh(Task task) {
+        cache.asMap().compute(task.getId(), (id, cached) -> newer(task, cached));
+    }
+
+    public void invalidate(Long id) {
+        epoch.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangedEvent.Type.CREATED) {
+            // Ids are never reused and misses are not cached, so there is nothing to invalidate
+            return;
+        }
+        if (event.id() == null) {
+            invalidateAll();
+        } else if (event.task() != null) {
+            refresh(event.task());
+        } else {
+            invalidate(event.id());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        TaskCacheProperties.WarmUp warmUp = properties.warmUp();
+        if (!warmUp.enabled() || warmUp.limit() < 1) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        long loadEpoch = epoch();
+        List<Task> dueSoon = taskRepository.findByStatusNotAndDueDateBetween(
+                TaskStatus.COMPLETED, now, now.plus(warmUp.dueWithin()),
+                PageRequest.of(0, warmUp.limit(), Sort.by("dueDate", "id")));
+        dueSoon.forEach(task -> putIfFresh(task, loadEpoch));
+        log.info("Warmed task cache with {} open tasks due within {}", dueSoon.size(), warmUp.dueWithin());
+    }
+
+    private static Task newer(Task candidate, Task cached) {
+        if (cached == null || cached.getVersion() == null) {
+            return candidate;
+        }
+        if (candidate.getVersion() == null || candidate.getVersion() <= cached.getVersion()) {
+            return cached;
+        }
+        return candidate;
+    }
+}
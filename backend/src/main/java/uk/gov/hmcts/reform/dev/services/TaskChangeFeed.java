@@ -0,0 +1,286 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import uk.gov.hmcts.reform.dev.config.TaskStreamProperties;
+
+// Fans committed task changes out to stream subscribers. Events are numbered and kept in a ring buffer of
+// replaySize, so a subscriber that reconnects with the last id it saw gets what it missed: its sender reads the
+// missed events straight from the buffer and only then switches to its own bounded queue for live events. Event ids
+// carry a random epoch per feed, so an id from before a restart (or from another instance) is never resumed.
+// Publishing only offers to each subscriber's queue and never blocks the writer thread; sending happens on a
+// virtual thread per subscriber. A subscriber that falls a whole queue behind, or asks to resume from an id no
+// longer in the buffer, has its backlog dropped and is told to resync (reload) instead.
+@Component
+public class TaskChangeFeed {
+
+    public interface Sink {
+        void send(String eventId, TaskStreamEvent event) throws IOException;
+
+        void resync(String eventId) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void close();
+    }
+
+    private final TaskStreamProperties properties;
+    private final TaskStreamEvent[] replay;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Counter resyncs;
+    // Not synchronized: subscribe runs on request threads, which may be virtual, and a virtual thread blocked on a
+    // monitor pins its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private long latest;
+    private long retainedFrom = 1;
+    private ExecutorService senders;
+    private ScheduledExecutorService heartbeats;
+
+    public TaskChangeFeed(TaskStreamProperties properties, MeterRegistry meterRegistry) {
+        if (properties.replaySize() < 1 || properties.subscriberBuffer() < 1) {
+            throw new IllegalArgumentException("tasks.stream.replay-size and subscriber-buffer must be >= 1");
+        }
+        this.properties = properties;
+        this.replay = new TaskStreamEvent[properties.replaySize()];
+        Gauge.builder("tasks.stream.subscribers", subscriptions, Set::size)
+                .description("Open task change streams")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder("tasks.stream.resyncs")
+                .description("Stream subscribers told to reload because they fell too far behind")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-stream-", 0).factory());
+        heartbeats = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("task-stream-heartbeat").daemon().factory());
+        long period = properties.heartbeat().toMillis();
+        heartbeats.scheduleAtFixedRate(this::heartbeat, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    // Streams never end on their own, so they are closed before graceful shutdown starts waiting on requests
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        subscriptions.forEach(Subscription::cancel);
+    }
+
+    @PreDestroy
+    public void stop() {
+        closeAll();
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.lock();
+        try {
+            TaskStreamEvent entry = TaskStreamEvent.of(++latest, event);
+            replay[(int) (entry.sequence() % replay.length)] = entry;
+            retainedFrom = Math.max(retainedFrom, latest - replay.length + 1);
+            subscriptions.forEach(subscription -> subscription.offer(entry));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lastEventId is the last event id the subscriber saw, or null for a fresh subscription
+    public Subscription subscribe(String lastEventId, Sink sink) {
+        Subscription subscription = new Subscription(sink);
+        lock.lock();
+        try {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                long seen = sequenceOf(lastEventId.trim());
+                if (seen < retainedFrom - 1 || seen > latest) {
+                    resyncs.increment();
+                    subscription.requestResync(latest);
+                } else if (seen < latest) {
+                    subscription.replayFrom = seen + 1;
+                }
+            }
+            subscriptions.add(subscription);
+        } finally {
+            lock.unlock();
+        }
+        // Sends a comment straight away so the response is committed and the client sees the stream open
+        subscription.requestHeartbeat();
+        return subscription;
+    }
+
+    String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    // -1 for an id this feed did not issue, which always forces a resync
+    private long sequenceOf(String eventId) {
+        if (!eventId.startsWith(epoch + "-")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private void heartbeat() {
+        subscriptions.forEach(Subscription::requestHeartbeat);
+    }
+
+    public final class Subscription {
+
+        private final Sink sink;
+        private final BlockingQueue<TaskStreamEvent> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicLong resyncAt = new AtomicLong(-1);
+        // Next sequence to read from the replay buffer while catching up, 0 once live. Guarded by the feed lock.
+        private long replayFrom;
+        private volatile boolean cancelled;
+
+        private Subscription(Sink sink) {
+            this.sink = sink;
+            this.pending = new ArrayBlockingQueue<>(properties.subscriberBuffer());
+        }
+
+        public void cancel() {
+            cancelled = true;
+            if (subscriptions.remove(this)) {
+                sink.close();
+            }
+        }
+
+        // Called under the feed lock. While catching up, the event is already in the replay buffer.
+        private void offer(TaskStreamEvent event) {
+            if (replayFrom > 0) {
+                schedule();
+            } else if (event.id() == null) {
+                requestResync(event.sequence());
+            } else if (!pending.offer(event)) {
+                resyncs.increment();
+                requestResync(event.sequence());
+            } else {
+                schedule();
+            }
+        }
+
+        // Anything still queued is older than the resync point, so it is dropped rather than sent
+        private void requestResync(long sequence) {
+            pending.clear();
+            resyncAt.set(sequence);
+            schedule();
+        }
+
+        private void requestHeartbeat() {
+            heartbeatDue.set(true);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!cancelled && draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                long resync = resyncAt.getAndSet(-1);
+                if (resync >= 0) {
+                    sink.resync(eventId(resync));
+                }
+                catchUp();
+                TaskStreamEvent event;
+                while (!cancelled && resyncAt.get() < 0 && (event = pending.poll()) != null) {
+                    sink.send(eventId(event.sequence()), event);
+                }
+                if (heartbeatDue.getAndSet(false)) {
+                    sink.heartbeat();
+                }
+            } catch (IOException | RuntimeException ex) {
+                // The client went away; its next request reconnects with Last-Event-ID
+                cancel();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (resyncAt.get() >= 0 || !pending.isEmpty() || heartbeatDue.get()) {
+                schedule();
+            }
+        }
+
+        // Sends the missed events straight from the replay buffer, a chunk at a time, so a gap longer than the
+        // subscriber's own queue is still replayed rather than overflowing it
+        private void catchUp() throws IOException {
+            List<TaskStreamEvent> chunk;
+            while (!cancelled && !(chunk = nextReplayChunk()).isEmpty()) {
+                for (TaskStreamEvent event : chunk) {
+                    if (event.id() == null) {
+                        sink.resync(eventId(event.sequence()));
+                    } else {
+                        sink.send(eventId(event.sequence()), event);
+                    }
+                }
+            }
+        }
+
+        // Empty once caught up, at which point the subscription goes live under the same lock that publishes, so
+        // no event is missed or sent twice
+        private List<TaskStreamEvent> nextReplayChunk() {
+            lock.lock();
+            try {
+                if (replayFrom == 0) {
+                    return List.of();
+                }
+                if (replayFrom < retainedFrom) {
+                    // Publishing lapped the replay while this subscriber was sending it
+                    replayFrom = 0;
+                    resyncs.increment();
+                    requestResync(latest);
+                    return List.of();
+                }
+                long to = Math.min(latest, replayFrom + properties.subscriberBuffer() - 1);
+                List<TaskStreamEvent> chunk = new ArrayList<>((int) (to - replayFrom + 1));
+                for (long sequence = replayFrom; sequence <= to; sequence++) {
+                    chunk.add(replay[(int) (sequence % replay.length)]);
+                }
+                replayFrom = to < latest ? to + 1 : 0;
+                return chunk;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import uk.gov.hmcts.reform.dev.config.TaskChangeLogProperties;
+import uk.gov.hmcts.reform.dev.exceptions.TaskChangesExpiredException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskChange;
+import uk.gov.hmcts.reform.dev.models.TaskChangeType;
+import uk.gov.hmcts.reform.dev.repository.TaskChangeRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+// Reads and compacts the task_change log. Compaction runs in the background in two passes, each a series of
+// small writes through the write queue so it never holds the writer for long:
+// - entries superseded by a later change to the same task are removed; sync returns the current state, so this
+//   loses nothing and keeps the log close to one row per task;
+// - tombstones older than tasks.changes.tombstone-retention are removed, and purged_through records how far, so
+//   a client that has not synced since then is told to start again.
+@Service
+public class TaskChangeLog {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeLog.class);
+
+    private final TaskChangeRepository changeRepository;
+    private final TaskRepository taskRepository;
+    private final TaskWriteCoordinator writeCoordinator;
+    private final TaskChangeLogProperties properties;
+    private ScheduledExecutorService compactor;
+
+    public TaskChangeLog(TaskChangeRepository changeRepository, TaskRepository taskRepository,
+                         TaskWriteCoordinator writeCoordinator, TaskChangeLogProperties properties) {
+        if (properties.compactionBatchSize() < 1) {
+            throw new IllegalArgumentException("tasks.changes.compaction-batch-size must be >= 1");
+        }
+        this.changeRepository = changeRepository;
+        this.taskRepository = taskRepository;
+        this.writeCoordinator = writeCoordinator;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        compactor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("task-change-compactor").daemon().factory());
+        long period = properties.compactionInterval().toMillis();
+        compactor.scheduleWithFixedDelay(this::compactQuietly, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        compactor.shutdownNow();
+    }
+
+    // One read transaction, so the horizon check, the changes and the task states all come from one snapshot.
+    // since 0 is a full sync: compaction keeps the latest entry of every live task, so it never expires.
+    @Transactional(readOnly = true)
+    public Slice<TaskChangeResult> getChanges(long since, int limit) {
+        if (since > 0 && since < changeRepository.findPurgedThrough()) {
+            throw new TaskChangesExpiredException(since);
+        }
+        Slice<TaskChange> changes = changeRepository.findBySeqGreaterThan(since,
+                PageRequest.of(0, limit, Sort.by("seq")));
+        List<Long> liveIds = changes.stream()
+                .filter(change -> change.getType() != TaskChangeType.DELETED)
+                .map(TaskChange::getTaskId)
+                .distinct()
+                .toList();
+        Map<Long, Task> tasks = taskRepository.findAllById(liveIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return changes.map(change -> new TaskChangeResult(change,
+                change.getType() == TaskChangeType.DELETED ? null : tasks.get(change.getTaskId())));
+    }
+
+    // Returns the number of log entries removed
+    public int compact() {
+        int removed = 0;
+        int batchSize = properties.compactionBatchSize();
+        long latest = changeRepository.findLatestSeq();
+        long from = changeRepository.findCompactedThrough();
+        while (from < latest) {
+            long fromSeq = from;
+            long toSeq = Math.min(from + batchSize, latest);
+            removed += writeCoordinator.execute(() -> {
+                int deleted = changeRepository.deleteSuperseded(fromSeq, toSeq);
+                changeRepository.markCompactedThrough(toSeq);
+                return deleted;
+            });
+            from = toSeq;
+        }
+
+        long cutoff = Instant.now().minus(properties.tombstoneRetention()).getEpochSecond();
+        int purged;
+        do {
+            purged = writeCoordinator.execute(() -> {
+                changeRepository.markPurgedThrough(cutoff, batchSize);
+                return changeRepository.deleteTombstones(cutoff, batchSize);
+            });
+            removed += purged;
+        } while (purged == batchSize);
+        return removed;
+    }
+
+    private void compactQuietly() {
+        try {
+            int removed = compact();
+            if (removed > 0) {
+                log.info("Compacted task change log, removed {} entries", removed);
+            }
+        } catch (RuntimeException ex) {
+            // Retried on the next run; an uncaught exception would cancel the schedule
+            log.warn("Task change log compaction failed", ex);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskChange;
+
+// task is the current state, or null for a delete or a task deleted since the change
+public record TaskChangeResult(TaskChange change, Task task) {
+}
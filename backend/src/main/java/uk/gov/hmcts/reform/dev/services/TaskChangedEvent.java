@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+// Published by TaskService for every committed mutation. task is null when the new state is not known
+// (deletes and set-based updates); id is null when the set of affected tasks is not known either.
+public record TaskChangedEvent(Type type, Long id, Task task) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), task);
+    }
+
+    public static TaskChangedEvent updated(Task task) {
+        return new TaskChangedEvent(Type.UPDATED, task.getId(), task);
+    }
+
+    public static TaskChangedEvent updated(Long id) {
+        return new TaskChangedEvent(Type.UPDATED, id, null);
+    }
+
+    public static TaskChangedEvent updatedUnknown() {
+        return new TaskChangedEvent(Type.UPDATED, null, null);
+    }
+
+    public static TaskChangedEvent deleted(Long id) {
+        return new TaskChangedEvent(Type.DELETED, id, null);
+    }
+}
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.LocalDateTime;
+
+// Cheap validator for list responses: changes whenever a task is created, updated or deleted
+public record TaskCollectionVersion(long writeGeneration, long count, LocalDateTime lastUpdatedAt) {
+}
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.util.List;
+
+import uk.gov.hmcts.reform.dev.models.TaskImport;
+
+public record TaskImportResult(TaskImport taskImport, List<TaskImportRow> rejections) {
+}
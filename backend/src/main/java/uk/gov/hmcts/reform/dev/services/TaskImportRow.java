@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+// One data row of an import. number is 1-based and counts every row, rejected or not, so it lines up with
+// the import's rowsCommitted checkpoint.
+public record TaskImportRow(long number, Task task, String error) {
+
+    public static TaskImportRow parsed(long number, Task task) {
+        return new TaskImportRow(number, task, null);
+    }
+
+    public static TaskImportRow rejected(long number, String error) {
+        return new TaskImportRow(number, null, error);
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+}
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import uk.gov.hmcts.reform.dev.config.TaskImportProperties;
+import uk.gov.hmcts.reform.dev.exceptions.InvalidTaskStateException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskImport;
+import uk.gov.hmcts.reform.dev.models.TaskImportStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskImportRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+// Applies an import in chunks of tasks.import.chunk-size rows. Each chunk is validated in parallel, then
+// inserted together with the checkpoint advance in one write, so a chunk is either fully applied and counted
+// or not at all. One chunk commits while the next is parsed; the next is not submitted until that commit
+// finishes, so at most two chunks are held whatever the file size.
+@Service
+public class TaskImportService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final TaskImportRepository importRepository;
+    private final TaskRepository taskRepository;
+    private final TaskWriteCoordinator writeCoordinator;
+    private final TaskWriteQueue writeQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskImportProperties properties;
+
+    public TaskImportService(TaskImportRepository importRepository, TaskRepository taskRepository,
+                             TaskWriteCoordinator writeCoordinator, TaskWriteQueue writeQueue,
+                             ApplicationEventPublisher eventPublisher, TaskImportProperties properties) {
+        if (properties.chunkSize() < 1) {
+            throw new IllegalArgumentException("tasks.import.chunk-size must be >= 1");
+        }
+        this.importRepository = importRepository;
+        this.taskRepository = taskRepository;
+        this.writeCoordinator = writeCoordinator;
+        this.writeQueue = writeQueue;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    public TaskImport createImport() {
+        return writeCoordinator.execute(() -> importRepository.save(new TaskImport()));
+    }
+
+    @Transactional(readOnly = true)
+    public TaskImport getImport(Long id) {
+        return importRepository.findById(id).orElseThrow(
+                () -> new TaskNotFoundException("Import not found with id " + id));
+    }
+
+    // Rows up to the import's checkpoint are skipped, so re-sending the same file after a failure resumes
+    // where the last committed chunk ended
+    public TaskImportResult runImport(Long id, Iterator<TaskImportRow> rows) {
+        TaskImport existing = getImport(id);
+        if (existing.getStatus() == TaskImportStatus.COMPLETED) {
+            throw new InvalidTaskStateException("Import " + id + " has already completed");
+        }
+        markStatus(id, TaskImportStatus.RUNNING, null);
+
+        List<TaskImportRow> rejections = new ArrayList<>();
+        try {
+            long committed = existing.getRowsCommitted();
+            skip(rows, committed);
+
+            CompletableFuture<Void> inFlight = CompletableFuture.completedFuture(null);
+            List<TaskImportRow> chunk = nextChunk(rows);
+            while (!chunk.isEmpty()) {
+                List<TaskImportRow> validated = chunk.parallelStream().map(TaskImportService::validate).toList();
+                join(inFlight);
+                inFlight = submitChunk(id, committed, validated);
+                committed += validated.size();
+                collectRejections(validated, rejections);
+                chunk = nextChunk(rows);
+            }
+            join(inFlight);
+        } catch (InvalidTaskStateException ex) {
+            // Another upload of this import moved the checkpoint; it owns the status now
+            throw ex;
+        } catch (RuntimeException ex) {
+            markStatus(id, TaskImportStatus.FAILED, errorMessage(ex));
+            throw ex;
+        }
+
+        markStatus(id, TaskImportStatus.COMPLETED, null);
+        return new TaskImportResult(getImport(id), rejections);
+    }
+
+    private CompletableFuture<Void> submitChunk(Long id, long expectedRows, List<TaskImportRow> chunk) {
+        List<Task> accepted = chunk.stream().filter(row -> !row.isRejected()).map(TaskImportRow::task).toList();
+        long rejected = chunk.size() - accepted.size();
+        return writeQueue.submit(() -> {
+            taskRepository.insertAll(accepted);
+            int advanced = importRepository.advance(id, expectedRows, chunk.size(), accepted.size(), rejected,
+                    TaskImportStatus.RUNNING, LocalDateTime.now());
+            if (advanced == 0) {
+                throw new InvalidTaskStateException("Import " + id + " was advanced by another upload");
+            }
+            accepted.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.created(task)));
+            return null;
+        });
+    }
+
+    private void markStatus(Long id, TaskImportStatus status, String error) {
+        writeCoordinator.execute(() -> importRepository.updateStatus(id, status, error, LocalDateTime.now()));
+    }
+
+    private List<TaskImportRow> nextChunk(Iterator<TaskImportRow> rows) {
+        List<TaskImportRow> chunk = new ArrayList<>(properties.chunkSize());
+        while (chunk.size() < properties.chunkSize() && rows.hasNext()) {
+            chunk.add(rows.next());
+        }
+        return chunk;
+    }
+
+    private void collectRejections(List<TaskImportRow> chunk, List<TaskImportRow> rejections) {
+        for (TaskImportRow row : chunk) {
+            if (rejections.size() >= properties.maxReportedRejections()) {
+                return;
+            }
+            if (row.isRejected()) {
+                rejections.add(row);
+            }
+        }
+    }
+
+    private static TaskImportRow validate(TaskImportRow row) {
+        if (row.isRejected()) {
+            return row;
+        }
+        try {
+            TaskService.validateNewTask(row.task());
+            return row;
+        } catch (IllegalArgumentException ex) {
+            return TaskImportRow.rejected(row.number(), ex.getMessage());
+        }
+    }
+
+    private static void skip(Iterator<TaskImportRow> rows, long count) {
+        for (long i = 0; i < count && rows.hasNext(); i++) {
+            rows.next();
+        }
+    }
+
+    private static void join(CompletableFuture<Void> commit) {
+        try {
+            commit.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static String errorMessage(RuntimeException ex) {
+        String message = ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,6 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+public record TaskSearchResult(Task task, String titleHighlight, String snippet) {
+}
@@ -1,91 +1,381 @@
 package uk.gov.hmcts.reform.dev.services;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 
+import uk.gov.hmcts.reform.dev.config.TransactionConfiguration;
 import uk.gov.hmcts.reform.dev.exceptions.InvalidTaskStateException;
 import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
 import uk.gov.hmcts.reform.dev.models.Task;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskStatusCount;
+import uk.gov.hmcts.reform.dev.repository.TaskBulkUpdate;
+import uk.gov.hmcts.reform.dev.repository.TaskFilter;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSearchHit;
+import uk.gov.hmcts.reform.dev.repository.TaskSearchQuery;
+import uk.gov.hmcts.reform.dev.repository.TaskStatusCountRepository;
 
 @Service
-@Transactional
+@Transactional(TransactionConfiguration.TASK_WRITE_TRANSACTION_MANAGER)
 public class TaskService {
+    private static final int MAX_BULK_IDS = 10000;
+    private static final Specification<Task> ALL_TASKS = (root, query, builder) -> null;
+
     private final TaskRepository taskRepository;
+    private final TaskStatusCountRepository taskStatusCountRepository;
+    private final TaskCache taskCache;
+    private final ApplicationEventPublisher eventPublisher;
+    // Seeded from the clock so validators issued before a restart do not match afterwards
+    private final AtomicLong writeGeneration = new AtomicLong(System.currentTimeMillis());
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, TaskStatusCountRepository taskStatusCountRepository,
+                       TaskCache taskCache, ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
+        this.taskStatusCountRepository = taskStatusCountRepository;
+        this.taskCache = taskCache;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional(readOnly = true)
     public Optional<Task> getTaskById(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("Task id must not be null");
         }
-        return taskRepository.findById(id);
+        Optional<Task> cached = taskCache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long epoch = taskCache.epoch();
+        Optional<Task> task = taskRepository.findById(id);
+        task.ifPresent(t -> taskCache.putIfFresh(t, epoch));
+        return task;
+    }
+
+    // Version check for conditional GETs: served from the cache when possible, otherwise a single-column query
+    @Transactional(readOnly = true)
+    public Optional<Long> getTaskVersion(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Task id must not be null");
+        }
+        Optional<Task> cached = taskCache.get(id);
+        if (cached.isPresent()) {
+            return cached.map(Task::getVersion);
+        }
+        return taskRepository.findVersionById(id);
     }
 
     public Task createTask(Task task) {
-        if (task == null) {
-            throw new IllegalArgumentException("Task must not be null");
+        validateNewTask(task);
+        Task saved = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(saved));
+        return saved;
+    }
+
+    public List<TaskBatchResult> createTasks(List<Task> tasks) {
+        if (tasks == null) {
+            throw new IllegalArgumentException("Tasks must not be null");
         }
-        // Validate task fields
-        if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
-            throw new IllegalArgumentException("Task title must not be null or empty");
+        List<TaskBatchResult> results = new ArrayList<>(tasks.size());
+        List<Task> accepted = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            try {
+                validateNewTask(task);
+                accepted.add(task);
+                results.add(TaskBatchResult.created(i, task));
+            } catch (IllegalArgumentException ex) {
+                results.add(TaskBatchResult.rejected(i, ex.getMessage()));
+            }
         }
-        if (task.getStatus() == null) {
-            throw new IllegalArgumentException("Task status must not be null");
+        taskRepository.insertAll(accepted);
+        accepted.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.created(task)));
+        return results;
+    }
+
+    // List reads select straight into type (see TaskListRepository), so no entities are loaded
+    @Transactional(readOnly = true)
+    public <T> Page<T> getAllTasks(TaskFilter filter, Pageable pageable, Class<T> type) {
+        if (pageable == null) {
+            throw new IllegalArgumentException("Pageable must not be null");
         }
-        if (task.getDueDate() == null) {
-            throw new IllegalArgumentException("Task due date must not be null");
+        return taskRepository.findPage(specificationFor(filter), pageable, type);
+    }
+
+    @Transactional(readOnly = true)
+    public <T> Slice<T> getTaskSlice(TaskFilter filter, Pageable pageable, Class<T> type) {
+        if (pageable == null) {
+            throw new IllegalArgumentException("Pageable must not be null");
+        }
+        return taskRepository.findSlice(specificationFor(filter), pageable, type);
+    }
+
+    // Sparse reads for ?fields=: only the named attributes are selected from the table
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllTaskAttributes(TaskFilter filter, Pageable pageable,
+                                                          List<String> attributes) {
+        if (pageable == null) {
+            throw new IllegalArgumentException("Pageable must not be null");
+        }
+        return taskRepository.findAttributePage(specificationFor(filter), pageable, attributes);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> getTaskSliceAttributes(TaskFilter filter, Pageable pageable,
+                                                             List<String> attributes) {
+        if (pageable == null) {
+            throw new IllegalArgumentException("Pageable must not be null");
+        }
+        return taskRepository.findAttributeSlice(specificationFor(filter), pageable, attributes);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getTaskAttributesById(Long id, List<String> attributes) {
+        if (id == null) {
+            throw new IllegalArgumentException("Task id must not be null");
+        }
+        return taskRepository.findAttributesById(id, attributes);
+    }
+
+    // One read-only transaction for the whole export; rows go to sink in id order as the cursor advances
+    @Transactional(readOnly = true)
+    public <T> long exportTasks(TaskFilter filter, Class<T> type, Consumer<? super T> sink) {
+        if (sink == null) {
+            throw new IllegalArgumentException("Export sink must not be null");
+        }
+        return taskRepository.forEach(specificationFor(filter), Sort.by("id"), type, sink);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<TaskStatus, Long> getTaskCounts() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (TaskStatusCount count : taskStatusCountRepository.findAll()) {
+            counts.put(count.getStatus(), count.getTotal());
+        }
+        return counts;
+    }
+
+    @Transactional(readOnly = true)
+    public long countTasks() {
+        return getTaskCounts().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    // Maintained counts are kept per status, so they can only total a status filter
+    @Transactional(readOnly = true)
+    public long countTasks(TaskFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return countTasks();
+        }
+        if (!filter.filtersOnlyByStatus()) {
+            throw new IllegalArgumentException("count=maintained only supports the status filter");
         }
+        return getTaskCounts().entrySet().stream()
+                .filter(entry -> filter.statuses().contains(entry.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    @Transactional(readOnly = true)
+    public TaskCollectionVersion getCollectionVersion() {
+        return new TaskCollectionVersion(
+                writeGeneration.get(),
+                countTasks(),
+                taskRepository.findLastUpdatedAt().orElse(null));
+    }
+
+    // Bumped after commit so a validator never changes before the data it describes
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onTaskChanged(TaskChangedEvent event) {
+        writeGeneration.incrementAndGet();
+    }
 
-        return taskRepository.save(task);
+    @Transactional(readOnly = true)
+    public Window<Task> scrollTasks(TaskFilter filter, ScrollPosition position, Sort sort, int limit) {
+        if (position == null) {
+            throw new IllegalArgumentException("Scroll position must not be null");
+        }
+        if (sort == null) {
+            throw new IllegalArgumentException("Sort must not be null");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be >= 1");
+        }
+        return taskRepository.findBy(specificationFor(filter),
+                query -> query.sortBy(sort).limit(limit).scroll(position));
     }
 
-    public Page<Task> getAllTasks(Pageable pageable) {
+    // Hits come from the FTS5 index; the tasks themselves are then loaded by primary key
+    @Transactional(readOnly = true)
+    public Slice<TaskSearchResult> searchTasks(TaskSearchQuery query, Pageable pageable) {
+        if (query == null) {
+            throw new IllegalArgumentException("Search query must not be null");
+        }
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable must not be null");
         }
-        return taskRepository.findAll(pageable);
+        Slice<TaskSearchHit> hits = taskRepository.search(query, pageable);
+        if (hits.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        Map<Long, Task> tasks = taskRepository.findAllById(hits.map(TaskSearchHit::id).getContent()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskSearchResult> results = hits.stream()
+                .filter(hit -> tasks.containsKey(hit.id()))
+                .map(hit -> new TaskSearchResult(tasks.get(hit.id()), hit.titleHighlight(), hit.snippet()))
+                .toList();
+        return new SliceImpl<>(results, pageable, hits.hasNext());
     }
 
     public Task updateTask(Task updatedTask) {
+        return updateTask(updatedTask, null);
+    }
+
+    // expectedVersion comes from If-Match; null applies the change to whatever version is current
+    public Task updateTask(Task updatedTask, Long expectedVersion) {
         if (updatedTask == null || updatedTask.getId() == null) {
             throw new IllegalArgumentException("Task id must not be null");
         }
         Long id = updatedTask.getId();
-        Task existing = taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException(id));
 
-        TaskStatus requestedStatus = updatedTask.getStatus();
-        if (existing.getStatus() == TaskStatus.COMPLETED
-                && requestedStatus != null
-                && requestedStatus != TaskStatus.COMPLETED) {
-            throw new InvalidTaskStateException("Cannot move task from COMPLETED to another state");
-        }
-
-        existing.setTitle(Optional.ofNullable(updatedTask.getTitle())
+        Task changes = new Task();
+        changes.setId(id);
+        changes.setTitle(Optional.ofNullable(updatedTask.getTitle())
                 .filter(t -> !t.trim().isEmpty())
-                .orElse(existing.getTitle()));
-        existing.setDescription(Optional.ofNullable(updatedTask.getDescription()).orElse(existing.getDescription()));
-        existing.setStatus(Optional.ofNullable(requestedStatus).orElse(existing.getStatus()));
-        existing.setDueDate(Optional.ofNullable(updatedTask.getDueDate()).orElse(existing.getDueDate()));
+                .orElse(null));
+        changes.setDescription(updatedTask.getDescription());
+        changes.setStatus(updatedTask.getStatus());
+        changes.setDueDate(updatedTask.getDueDate());
 
-        return taskRepository.save(existing);
+        Task patched = taskRepository.patch(changes, expectedVersion)
+                .orElseThrow(() -> rejectedWrite(id, expectedVersion));
+        eventPublisher.publishEvent(TaskChangedEvent.updated(patched));
+        return patched;
+    }
+
+    public int bulkUpdateTasks(TaskBulkUpdate update) {
+        if (update == null) {
+            throw new IllegalArgumentException("Bulk update must not be null");
+        }
+        if ((update.ids() == null) == (update.dueBefore() == null)) {
+            throw new IllegalArgumentException("Exactly one of ids or dueBefore must be provided");
+        }
+        if (update.ids() != null && update.ids().isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+        if (update.status() == null && update.dueDate() == null) {
+            throw new IllegalArgumentException("At least one of status or dueDate must be provided");
+        }
+        if (update.ids() == null) {
+            int updated = taskRepository.updateAll(update);
+            if (updated > 0) {
+                eventPublisher.publishEvent(TaskChangedEvent.updatedUnknown());
+            }
+            return updated;
+        }
+        // Missing, COMPLETED and already-matching tasks are skipped, so only the ids that really change get events.
+        // The select and the update share one write transaction and therefore see the same rows.
+        List<Long> changed = taskRepository.findUpdatableIds(update);
+        if (changed.isEmpty()) {
+            return 0;
+        }
+        int updated = taskRepository.updateAll(update);
+        changed.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.updated(id)));
+        return updated;
     }
 
     public void deleteTask(Long id) {
+        deleteTask(id, null);
+    }
+
+    public void deleteTask(Long id, Long expectedVersion) {
         if (id == null) {
             throw new IllegalArgumentException("Task id must not be null");
         }
-        if (!taskRepository.existsById(id)) {
-            throw new TaskNotFoundException(id);
+        int deleted = expectedVersion == null
+                ? taskRepository.deleteTask(id)
+                : taskRepository.deleteTask(id, expectedVersion);
+        if (deleted == 0) {
+            throw rejectedWrite(id, expectedVersion);
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(id));
+    }
+
+    public int deleteTasks(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+        if (ids.size() > MAX_BULK_IDS) {
+            throw new IllegalArgumentException("ids must contain at most " + MAX_BULK_IDS + " items");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ids must not contain null items");
+        }
+        // Unknown ids are ignored, and must not be announced as deleted
+        List<Long> existing = taskRepository.findExistingIds(ids);
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        int deleted = taskRepository.deleteTasks(existing);
+        existing.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.deleted(id)));
+        return deleted;
+    }
+
+    // Works out why a conditional write matched no row, checked in the order 404, 412, 409
+    private RuntimeException rejectedWrite(Long id, Long expectedVersion) {
+        Optional<Long> currentVersion = taskRepository.findVersionById(id);
+        if (currentVersion.isEmpty()) {
+            return new TaskNotFoundException(id);
+        }
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion.get())) {
+            return new TaskVersionMismatchException(id);
+        }
+        return new InvalidTaskStateException("Cannot move task from COMPLETED to another state");
+    }
+
+    private static Specification<Task> specificationFor(TaskFilter filter) {
+        return filter == null || filter.isEmpty() ? ALL_TASKS : filter.toSpecification();
+    }
+
+    static void validateNewTask(Task task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task must not be null");
+        }
+        // Validate task fields
+        if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
+            throw new IllegalArgumentException("Task title must not be null or empty");
+        }
+        if (task.getStatus() == null) {
+            throw new IllegalArgumentException("Task status must not be null");
+        }
+        if (task.getDueDate() == null) {
+            throw new IllegalArgumentException("Task due date must not be null");
         }
-        taskRepository.deleteById(id);
     }
 }
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.services;
+
+// One entry of the change feed. id is null when the change was not tied to known tasks (a set-based update),
+// which subscribers treat like a resync.
+public record TaskStreamEvent(long sequence, TaskChangedEvent.Type type, Long id, Long version) {
+
+    static TaskStreamEvent of(long sequence, TaskChangedEvent event) {
+        Long version = event.task() == null ? null : event.task().getVersion();
+        return new TaskStreamEvent(sequence, event.type(), event.id(), version);
+    }
+}
@@ -0,0 +1,94 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import uk.gov.hmcts.reform.dev.config.TaskWriteProperties;
+
+// Entry point for every task mutation. Writes are handed to TaskWriteQueue, so each attempt runs in a fresh
+// (group-committed) transaction; optimistic-lock or SQLITE_BUSY failures are retried with jittered exponential
+// backoff. Writers to the same id also queue on a striped lock so they reach the writer in arrival order.
+@Component
+public class TaskWriteCoordinator {
+
+    private final TaskWriteProperties properties;
+    private final TaskWriteQueue writeQueue;
+    private final ReentrantLock[] stripes;
+    private final Timer lockWait;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    public TaskWriteCoordinator(TaskWriteProperties properties, TaskWriteQueue writeQueue,
+                                MeterRegistry meterRegistry) {
+        if (properties.lockStripes() < 1 || properties.maxAttempts() < 1) {
+            throw new IllegalArgumentException("tasks.write.lock-stripes and max-attempts must be >= 1");
+        }
+        this.properties = properties;
+        this.writeQueue = writeQueue;
+        this.stripes = new ReentrantLock[properties.lockStripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            // Fair, so a releasing writer cannot barge ahead of the writers already waiting on the stripe
+            stripes[i] = new ReentrantLock(true);
+        }
+        this.lockWait = Timer.builder("tasks.write.lock.wait")
+                .description("Time spent waiting for the per-task write lock")
+                .register(meterRegistry);
+        this.retries = Counter.builder("tasks.write.retries")
+                .description("Task writes retried after a concurrency failure")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("tasks.write.conflicts")
+                .description("Task writes that still failed after every retry")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> write) {
+        return withRetry(write);
+    }
+
+    public <T> T execute(Long id, Supplier<T> write) {
+        ReentrantLock lock = stripes[Math.floorMod(id.hashCode(), stripes.length)];
+        long waitStart = System.nanoTime();
+        lock.lock();
+        try {
+            lockWait.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+            return withRetry(write);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T withRetry(Supplier<T> write) {
+        long backoff = properties.initialBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return writeQueue.execute(write);
+            } catch (ConcurrencyFailureException ex) {
+                if (attempt >= properties.maxAttempts()) {
+                    exhausted.increment();
+                    throw ex;
+                }
+                retries.increment();
+                sleep(ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1));
+                backoff = Math.min(backoff * 2, properties.maxBackoff().toMillis());
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off a task write", ex);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import uk.gov.hmcts.reform.dev.config.TaskWriteProperties;
+import uk.gov.hmcts.reform.dev.config.TransactionConfiguration;
+import uk.gov.hmcts.reform.dev.exceptions.TaskWriteRejectedException;
+
+// SQLite has a single write lock, so mutations are funnelled through one writer thread. It drains up to batchSize
+// queued writes (waiting at most linger for stragglers) and commits them in one transaction, paying for one fsync
+// per batch instead of per request. Each write runs after an explicit savepoint on the batch transaction, and a write
+// that fails (404, 409, 412, validation) is rolled back to it, so the rest of the batch still commits. This relies on
+// the task write transaction manager (TransactionConfiguration), which TaskService shares: by default its exception
+// would mark the whole transaction rollback-only. A failure Hibernate itself marks for rollback (a constraint
+// violation on flush), or one thrown by a repository called directly, still fails the whole batch.
+@Component
+public class TaskWriteQueue {
+
+    private final TaskWriteProperties.Queue properties;
+    private final BlockingQueue<PendingWrite<?>> queue;
+    private final TransactionTemplate batchTransaction;
+    private final EntityManager entityManager;
+    private final DistributionSummary batchSizes;
+    private final Timer commitTimer;
+    private Thread writer;
+    private volatile boolean running;
+
+    public TaskWriteQueue(TaskWriteProperties properties,
+                          @Qualifier(TransactionConfiguration.TASK_WRITE_TRANSACTION_MANAGER)
+                          PlatformTransactionManager transactionManager,
+                          EntityManager entityManager, MeterRegistry meterRegistry) {
+        this.properties = properties.queue();
+        if (this.properties.capacity() < 1 || this.properties.batchSize() < 1) {
+            throw new IllegalArgumentException("tasks.write.queue.capacity and batch-size must be >= 1");
+        }
+        this.queue = new ArrayBlockingQueue<>(this.properties.capacity());
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        Gauge.builder("tasks.write.queue.depth", queue, BlockingQueue::size)
+                .description("Task writes waiting for the writer thread")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("tasks.write.batch.size")
+                .description("Task writes committed together in one transaction")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("tasks.write.batch.commit")
+                .description("Time to apply and commit one batch of task writes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        // Stays a platform thread in virtual-thread mode: it is busy in the SQLite driver, which would pin a carrier
+        writer = new Thread(this::run, "task-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        // Lets the writer commit the batch it already holds before the data source closes
+        writer.join(properties.completionTimeout().toMillis());
+        List<PendingWrite<?>> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(write -> write.future.completeExceptionally(
+                new TaskWriteRejectedException("Task writer is shutting down")));
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> write) {
+        return enqueue(write).future;
+    }
+
+    // Blocks until the batch containing the write has committed and rethrows the write's own exception. Waits at
+    // most completion-timeout; a write still queued by then is withdrawn, one already in a batch may yet commit.
+    public <T> T execute(Supplier<T> write) {
+        PendingWrite<T> pending = enqueue(write);
+        try {
+            return pending.future.get(properties.completionTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            if (queue.remove(pending)) {
+                throw new TaskWriteRejectedException("Task write was not started in time, please retry");
+            }
+            throw new TaskWriteRejectedException("Task write did not complete in time and may still be applied");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TaskWriteRejectedException("Interrupted while waiting for a task write");
+        }
+    }
+
+    private <T> PendingWrite<T> enqueue(Supplier<T> write) {
+        PendingWrite<T> pending = new PendingWrite<>(write);
+        boolean queued;
+        try {
+            queued = running && queue.offer(pending, properties.enqueueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            throw new TaskWriteRejectedException("Task write queue is full, please retry");
+        }
+        return pending;
+    }
+
+    // An interrupt (shutdown) while lingering for stragglers still commits the writes already taken off the queue,
+    // so none of their callers is left waiting; stop() fails whatever is still queued
+    private void run() {
+        boolean interrupted = false;
+        while (running && !interrupted) {
+            List<PendingWrite<?>> batch = new ArrayList<>(properties.batchSize());
+            try {
+                collect(batch);
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collect(List<PendingWrite<?>> batch) throws InterruptedException {
+        batch.add(queue.take());
+        queue.drainTo(batch, properties.batchSize() - batch.size());
+        long deadline = System.nanoTime() + properties.linger().toNanos();
+        while (batch.size() < properties.batchSize()) {
+            PendingWrite<?> next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    // Catches Throwable so that an Error in one batch fails only that batch's callers, not the writer thread
+    private void commit(List<PendingWrite<?>> batch) {
+        batchSizes.record(batch.size());
+        try {
+            commitTimer.record(() -> batchTransaction.executeWithoutResult(status ->
+                    batch.forEach(write -> apply(write, status))));
+        } catch (Throwable ex) {
+            batch.forEach(write -> write.future.completeExceptionally(write.error != null ? write.error : ex));
+            return;
+        }
+        batch.forEach(PendingWrite::complete);
+    }
+
+    private void apply(PendingWrite<?> write, TransactionStatus status) {
+        Object savepoint = status.createSavepoint();
+        try {
+            write.run();
+            entityManager.flush();
+            status.releaseSavepoint(savepoint);
+        } catch (RuntimeException ex) {
+            write.error = ex;
+            status.rollbackToSavepoint(savepoint);
+        } finally {
+            // Writes in one batch share a persistence context, so later writes must not see earlier entities
+            entityManager.clear();
+        }
+    }
+
+    private static final class PendingWrite<T> {
+        private final Supplier<T> write;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private T result;
+        private RuntimeException error;
+
+        private PendingWrite(Supplier<T> write) {
+            this.write = write;
+        }
+
+        private void run() {
+            result = write.get();
+        }
+
+        private void complete() {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+}
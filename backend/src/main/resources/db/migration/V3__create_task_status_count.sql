@@ -0,0 +1,29 @@
+CREATE TABLE IF NOT EXISTS task_status_count (
+  status VARCHAR(50) PRIMARY KEY,
+  total BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO task_status_count (status, total)
+SELECT status, COUNT(*) FROM task GROUP BY status;
+
+CREATE TRIGGER IF NOT EXISTS task_status_count_after_insert
+AFTER INSERT ON task
+BEGIN
+  INSERT INTO task_status_count (status, total) VALUES (NEW.status, 1)
+    ON CONFLICT(status) DO UPDATE SET total = total + 1;
+END;
+
+CREATE TRIGGER IF NOT EXISTS task_status_count_after_update
+AFTER UPDATE OF status ON task
+WHEN OLD.status <> NEW.status
+BEGIN
+  UPDATE task_status_count SET total = total - 1 WHERE status = OLD.status;
+  INSERT INTO task_status_count (status, total) VALUES (NEW.status, 1)
+    ON CONFLICT(status) DO UPDATE SET total = total + 1;
+END;
+
+CREATE TRIGGER IF NOT EXISTS task_status_count_after_delete
+AFTER DELETE ON task
+BEGIN
+  UPDATE task_status_count SET total = total - 1 WHERE status = OLD.status;
+END;
@@ -0,0 +1,2 @@
+-- Lets the collection validator read MAX(updated_at) from the end of the index instead of scanning the table
+CREATE INDEX IF NOT EXISTS idx_task_updated_at ON task (updated_at);
@@ -0,0 +1,53 @@
+-- Title sorting is case-insensitive. SQLite cannot change a column's collation in place, so the table is rebuilt
+-- with title COLLATE NOCASE; ORDER BY title, keyset comparisons on title and the index below then all agree.
+CREATE TABLE task_new (
+  id INTEGER PRIMARY KEY AUTOINCREMENT,
+  version BIGINT NOT NULL DEFAULT 0,
+  title VARCHAR(255) NOT NULL COLLATE NOCASE,
+  description TEXT,
+  status VARCHAR(50) NOT NULL,
+  due_date TIMESTAMP NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO task_new (id, version, title, description, status, due_date, created_at, updated_at)
+SELECT id, version, title, description, status, due_date, created_at, updated_at FROM task;
+
+-- Keep the AUTOINCREMENT high-water mark so ids of deleted tasks are never handed out again
+DELETE FROM sqlite_sequence WHERE name = 'task_new';
+INSERT INTO sqlite_sequence (name, seq) SELECT 'task_new', seq FROM sqlite_sequence WHERE name = 'task';
+
+-- Dropping the table also drops its indexes and triggers without firing them
+DROP TABLE task;
+ALTER TABLE task_new RENAME TO task;
+
+CREATE INDEX idx_task_updated_at ON task (updated_at);
+
+CREATE TRIGGER task_status_count_after_insert
+AFTER INSERT ON task
+BEGIN
+  INSERT INTO task_status_count (status, total) VALUES (NEW.status, 1)
+    ON CONFLICT(status) DO UPDATE SET total = total + 1;
+END;
+
+CREATE TRIGGER task_status_count_after_update
+AFTER UPDATE OF status ON task
+WHEN OLD.status <> NEW.status
+BEGIN
+  UPDATE task_status_count SET total = total - 1 WHERE status = OLD.status;
+  INSERT INTO task_status_count (status, total) VALUES (NEW.status, 1)
+    ON CONFLICT(status) DO UPDATE SET total = total + 1;
+END;
+
+CREATE TRIGGER task_status_count_after_delete
+AFTER DELETE ON task
+BEGIN
+  UPDATE task_status_count SET total = total - 1 WHERE status = OLD.status;
+END;
+
+-- One (sort column, id) index per TaskSortBy option so paging never needs a temp B-tree sort.
+-- Sorting by id uses the rowid directly.
+CREATE INDEX idx_task_title_id ON task (title, id);
+CREATE INDEX idx_task_status_id ON task (status, id);
+CREATE INDEX idx_task_due_date_id ON task (due_date, id);
@@ -0,0 +1,2 @@
+-- Backs the createdAfter list filter; status, due_date and updated_at are already covered by V4 and V5
+CREATE INDEX IF NOT EXISTS idx_task_created_at ON task (created_at);
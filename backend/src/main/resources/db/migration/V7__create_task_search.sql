@@ -0,0 +1,38 @@
+-- Full-text index over title and description. External content: the text stays in task and the
+-- index stores only tokens, kept in step by the triggers below.
+-- prefix='2 3' adds prefix indexes so short "ab*" style queries do not walk the whole term list.
+CREATE VIRTUAL TABLE IF NOT EXISTS task_search USING fts5(
+  title,
+  description,
+  content='task',
+  content_rowid='id',
+  tokenize='unicode61 remove_diacritics 2',
+  prefix='2 3'
+);
+
+-- Title matches rank ten times higher than description matches
+INSERT INTO task_search (task_search, rank) VALUES ('rank', 'bm25(10.0, 1.0)');
+
+-- Backfill every existing task
+INSERT INTO task_search (task_search) VALUES ('rebuild');
+
+CREATE TRIGGER IF NOT EXISTS task_search_after_insert
+AFTER INSERT ON task
+BEGIN
+  INSERT INTO task_search (rowid, title, description) VALUES (NEW.id, NEW.title, NEW.description);
+END;
+
+CREATE TRIGGER IF NOT EXISTS task_search_after_update
+AFTER UPDATE OF title, description ON task
+BEGIN
+  INSERT INTO task_search (task_search, rowid, title, description)
+    VALUES ('delete', OLD.id, OLD.title, OLD.description);
+  INSERT INTO task_search (rowid, title, description) VALUES (NEW.id, NEW.title, NEW.description);
+END;
+
+CREATE TRIGGER IF NOT EXISTS task_search_after_delete
+AFTER DELETE ON task
+BEGIN
+  INSERT INTO task_search (task_search, rowid, title, description)
+    VALUES ('delete', OLD.id, OLD.title, OLD.description);
+END;
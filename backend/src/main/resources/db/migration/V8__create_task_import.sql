@@ -0,0 +1,12 @@
+-- One row per streaming import. rows_committed is the checkpoint: it advances in the same transaction
+-- as the chunk of tasks it covers, so a resumed upload skips exactly the rows already applied.
+CREATE TABLE IF NOT EXISTS task_import (
+  id INTEGER PRIMARY KEY AUTOINCREMENT,
+  status VARCHAR(20) NOT NULL,
+  rows_committed BIGINT NOT NULL DEFAULT 0,
+  created BIGINT NOT NULL DEFAULT 0,
+  rejected BIGINT NOT NULL DEFAULT 0,
+  last_error VARCHAR(1000),
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,50 @@
+-- Change log for delta sync. Every write to task appends a row in the same transaction via the triggers below,
+-- so batch inserts, bulk updates and imports are logged as well. seq comes from AUTOINCREMENT, so it is never
+-- reused, and with a single writer it also matches commit order: a reader that has seen seq N has seen every
+-- change before it. changed_at is epoch seconds.
+CREATE TABLE IF NOT EXISTS task_change (
+  seq INTEGER PRIMARY KEY AUTOINCREMENT,
+  task_id BIGINT NOT NULL,
+  type VARCHAR(10) NOT NULL,
+  version BIGINT,
+  changed_at BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_change_task_id_seq ON task_change (task_id, seq);
+
+CREATE INDEX IF NOT EXISTS idx_task_change_tombstones ON task_change (changed_at) WHERE type = 'DELETED';
+
+-- compacted_through: superseded entries up to this seq have been removed, which loses nothing for sync.
+-- purged_through: tombstones up to this seq have been removed, so a client behind it must sync from 0 again.
+CREATE TABLE IF NOT EXISTS task_change_compaction (
+  id INTEGER PRIMARY KEY CHECK (id = 1),
+  compacted_through BIGINT NOT NULL,
+  purged_through BIGINT NOT NULL
+);
+
+-- Existing tasks are logged as created, so syncing from 0 returns the whole table
+INSERT INTO task_change (task_id, type, version, changed_at)
+SELECT id, 'CREATED', version, CAST(strftime('%s', 'now') AS INTEGER) FROM task ORDER BY id;
+
+INSERT INTO task_change_compaction (id, compacted_through, purged_through) VALUES (1, 0, 0);
+
+CREATE TRIGGER IF NOT EXISTS task_change_after_insert
+AFTER INSERT ON task
+BEGIN
+  INSERT INTO task_change (task_id, type, version, changed_at)
+    VALUES (NEW.id, 'CREATED', NEW.version, CAST(strftime('%s', 'now') AS INTEGER));
+END;
+
+CREATE TRIGGER IF NOT EXISTS task_change_after_update
+AFTER UPDATE ON task
+BEGIN
+  INSERT INTO task_change (task_id, type, version, changed_at)
+    VALUES (NEW.id, 'UPDATED', NEW.version, CAST(strftime('%s', 'now') AS INTEGER));
+END;
+
+CREATE TRIGGER IF NOT EXISTS task_change_after_delete
+AFTER DELETE ON task
+BEGIN
+  INSERT INTO task_change (task_id, type, version, changed_at)
+    VALUES (OLD.id, 'DELETED', OLD.version, CAST(strftime('%s', 'now') AS INTEGER));
+END;
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import uk.gov.hmcts.reform.dev.PerfSettings.Endpoint;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+// Starts requests on a fixed schedule of perf.rate per second, each on its own virtual thread, whether or not the
+// earlier ones have finished. Latency is measured from when a request was due to start rather than when it was
+// sent, so a stalled server shows up as queueing delay instead of silently lowering the offered load (coordinated
+// omission).
+final class OpenModelLoadGenerator {
+
+    // Requests this far behind mean the server has stopped keeping up; they are counted as errors, not sent
+    private static final int MAX_IN_FLIGHT = 2_000;
+
+    interface Action {
+        // Returns false when the response was not the expected one
+        boolean perform(Endpoint endpoint) throws Exception;
+    }
+
+    private final PerfSettings settings;
+    private final Action action;
+    private final Endpoint[] schedule;
+
+    OpenModelLoadGenerator(PerfSettings settings, Action action) {
+        this.settings = settings;
+        this.action = action;
+        this.schedule = settings.mix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Endpoint[]::new);
+    }
+
+    Map<Endpoint, Recorded> run(Duration duration) {
+        Map<Endpoint, Recorded> recorded = new EnumMap<>(Endpoint.class);
+        settings.mix().keySet().forEach(endpoint -> recorded.put(endpoint, new Recorded(duration)));
+        // Fixed seed so every run offers the same sequence of requests
+        Random random = new Random(42);
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate());
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long due = start; due < end; due += interval) {
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = schedule[random.nextInt(schedule.length)];
+                Recorded target = recorded.get(endpoint);
+                target.requests.increment();
+                if (!inFlight.tryAcquire()) {
+                    target.errors.increment();
+                    continue;
+                }
+                long scheduled = due;
+                executor.execute(() -> {
+                    try {
+                        boolean ok = perform(endpoint);
+                        target.latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled));
+                        if (!ok) {
+                            target.errors.increment();
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return recorded;
+    }
+
+    private boolean perform(Endpoint endpoint) {
+        try {
+            return action.perform(endpoint);
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    static final class Recorded {
+
+        private final Histogram latencies = new ConcurrentHistogram(3);
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final Duration duration;
+
+        private Recorded(Duration duration) {
+            this.duration = duration;
+        }
+
+        // Latencies in microseconds
+        Histogram latencies() {
+            return latencies;
+        }
+
+        long requests() {
+            return requests.sum();
+        }
+
+        long errors() {
+            return errors.sum();
+        }
+
+        double throughput() {
+            return (requests() - errors()) / (duration.toNanos() / 1_000_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.HdrHistogram.Histogram;
+import uk.gov.hmcts.reform.dev.OpenModelLoadGenerator.Recorded;
+import uk.gov.hmcts.reform.dev.PerfSettings.Endpoint;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// What one load test run measured, per endpoint. Written to build/reports/perf/results.json, and stored as the
+// baseline that later runs are compared against. Latencies are in milliseconds, throughput in successful
+// requests per second.
+record PerfReport(double rate, String mix, Map<String, EndpointStats> endpoints) {
+
+    // p99 differences smaller than this are noise on a fast endpoint, whatever the percentage
+    private static final double P99_SLACK_MILLIS = 1.0;
+
+    record EndpointStats(long requests, long errors, double throughput, double p50, double p90, double p99,
+                         double p999, double max) {
+
+        // latencies in microseconds
+        static EndpointStats of(long requests, long errors, double throughput, Histogram latencies) {
+            return new EndpointStats(requests, errors, throughput,
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(90)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()));
+        }
+    }
+
+    static PerfReport of(PerfSettings settings, Map<Endpoint, Recorded> recorded) {
+        Map<String, EndpointStats> endpoints = new LinkedHashMap<>();
+        recorded.forEach((endpoint, run) -> endpoints.put(endpoint.key(),
+                EndpointStats.of(run.requests(), run.errors(), run.throughput(), run.latencies())));
+        return new PerfReport(settings.rate(), settings.mixDescription(), endpoints);
+    }
+
+    // A baseline recorded under a different load says nothing about this run, so it is not compared
+    boolean comparableTo(PerfReport baseline) {
+        return rate == baseline.rate && mix.equals(baseline.mix);
+    }
+
+    List<String> regressionsAgainst(PerfReport baseline, PerfSettings settings) {
+        List<String> regressions = new ArrayList<>();
+        endpoints.forEach((endpoint, current) -> {
+            EndpointStats before = baseline.endpoints.get(endpoint);
+            if (before == null) {
+                return;
+            }
+            double p99Limit = Math.max(before.p99() * (1 + settings.p99Tolerance()), before.p99() + P99_SLACK_MILLIS);
+            if (current.p99() > p99Limit) {
+                regressions.add(String.format("%s p99 %.2fms exceeds baseline %.2fms by more than %.0f%%",
+                        endpoint, current.p99(), before.p99(), settings.p99Tolerance() * 100));
+            }
+            double throughputLimit = before.throughput() * (1 - settings.throughputTolerance());
+            if (current.throughput() < throughputLimit) {
+                regressions.add(String.format("%s throughput %.1f/s is below baseline %.1f/s by more than %.0f%%",
+                        endpoint, current.throughput(), before.throughput(), settings.throughputTolerance() * 100));
+            }
+        });
+        return regressions;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,91 @@
+package uk.gov.hmcts.reform.dev;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Load test settings, read from perf.* system properties (the perf Gradle task forwards -Pperf.* to them):
+// - perf.rate: requests per second offered, whether or not earlier requests have finished (open model);
+// - perf.warm-up and perf.duration: ISO-8601 durations, e.g. PT30S;
+// - perf.mix: relative weight per endpoint, e.g. get=50,list=20,post=10,patch=10,delete=10;
+// - perf.p99-tolerance and perf.throughput-tolerance: allowed regression against the baseline, as a fraction;
+// - perf.update-baseline: write this run to perf.report-dir as a new baseline instead of comparing against it.
+record PerfSettings(
+        double rate,
+        Duration warmUp,
+        Duration duration,
+        Map<Endpoint, Integer> mix,
+        double p99Tolerance,
+        double throughputTolerance,
+        Path baseline,
+        Path reportDir,
+        boolean updateBaseline) {
+
+    private static final String DEFAULT_MIX = "get=50,list=20,post=10,patch=10,delete=10";
+
+    static PerfSettings fromSystemProperties() {
+        return new PerfSettings(
+                Double.parseDouble(System.getProperty("perf.rate", "200")),
+                Duration.parse(System.getProperty("perf.warm-up", "PT5S")),
+                Duration.parse(System.getProperty("perf.duration", "PT30S")),
+                parseMix(System.getProperty("perf.mix", DEFAULT_MIX)),
+                Double.parseDouble(System.getProperty("perf.p99-tolerance", "0.25")),
+                Double.parseDouble(System.getProperty("perf.throughput-tolerance", "0.10")),
+                Path.of(System.getProperty("perf.baseline", "src/perf/resources/perf-baseline.json")),
+                Path.of(System.getProperty("perf.report-dir", "build/reports/perf")),
+                Boolean.parseBoolean(System.getProperty("perf.update-baseline", "false")));
+    }
+
+    String mixDescription() {
+        StringBuilder description = new StringBuilder();
+        mix.forEach((endpoint, weight) -> description.append(description.isEmpty() ? "" : ",")
+                .append(endpoint.key()).append('=').append(weight));
+        return description.toString();
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("perf.mix entries must look like get=50, got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("perf.mix must give at least one endpoint a positive weight");
+        }
+        return mix;
+    }
+
+    enum Endpoint {
+        GET("get"),
+        LIST("list"),
+        POST("post"),
+        PATCH("patch"),
+        DELETE("delete");
+
+        private final String key;
+
+        Endpoint(String key) {
+            this.key = key;
+        }
+
+        String key() {
+            return key;
+        }
+
+        static Endpoint fromKey(String key) {
+            for (Endpoint endpoint : values()) {
+                if (endpoint.key.equalsIgnoreCase(key)) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("Unknown perf.mix endpoint: " + key);
+        }
+    }
+}
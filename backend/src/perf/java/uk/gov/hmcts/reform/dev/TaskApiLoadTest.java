@@ -0,0 +1,178 @@
+package uk.gov.hmcts.reform.dev;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import uk.gov.hmcts.reform.dev.OpenModelLoadGenerator.Recorded;
+import uk.gov.hmcts.reform.dev.PerfSettings.Endpoint;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Drives the configured request mix at a constant arrival rate against the app on a temporary SQLite file, then
+// compares p99 latency and throughput per endpoint with src/perf/resources/perf-baseline.json. GET and PATCH hit
+// a fixed set of seeded tasks; DELETE only removes tasks created for it, so the two never race.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TaskApiLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskApiLoadTest.class);
+
+    private static final int SEEDED_TASKS = 1_000;
+    private static final int DISPOSABLE_TASKS = 1_000;
+
+    private static final String TEST_DB_PATH = System.getProperty("java.io.tmpdir")
+            + "/task-perf-"
+            + UUID.randomUUID()
+            + ".sqlite";
+
+    private static final String TASK_JSON = """
+            {"title": "%s", "description": "Load test task", "status": "PENDING", \
+            "dueDate": "2030-01-01T10:00:00"}""";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final PerfSettings settings = PerfSettings.fromSystemProperties();
+    private final List<Long> seeded = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Long> disposable = new ConcurrentLinkedQueue<>();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void overrideDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + TEST_DB_PATH);
+    }
+
+    @Test
+    void apiShouldNotRegressAgainstTheBaseline() throws Exception {
+        seeded.addAll(createTasks(SEEDED_TASKS));
+        disposable.addAll(createTasks(DISPOSABLE_TASKS));
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(settings, this::perform);
+
+        generator.run(settings.warmUp());
+        Map<Endpoint, Recorded> recorded = generator.run(settings.duration());
+
+        PerfReport report = PerfReport.of(settings, recorded);
+        writeReport(report, recorded);
+        report.endpoints().forEach((endpoint, stats) -> Assertions.assertEquals(0, stats.errors(),
+                endpoint + " had failed or dropped requests"));
+        compareWithBaseline(report);
+    }
+
+    private boolean perform(Endpoint endpoint) throws Exception {
+        Long id = seeded.get(ThreadLocalRandom.current().nextInt(seeded.size()));
+        return switch (endpoint) {
+            case GET -> send(request("/tasks/" + id).GET()).statusCode() == 200;
+            case LIST -> {
+                int page = ThreadLocalRandom.current().nextInt(SEEDED_TASKS / 20);
+                yield send(request("/tasks?size=20&sortBy=due_date&page=" + page).GET()).statusCode() == 200;
+            }
+            case POST -> {
+                HttpResponse<String> response = send(json(request("/tasks"), "POST", "perf-" + UUID.randomUUID()));
+                if (response.statusCode() != 201) {
+                    yield false;
+                }
+                disposable.add(objectMapper.readTree(response.body()).get("id").asLong());
+                yield true;
+            }
+            case PATCH -> send(json(request("/tasks/" + id), "PATCH", "patched-" + UUID.randomUUID()))
+                    .statusCode() == 200;
+            case DELETE -> {
+                Long target = disposable.poll();
+                // target is null only if the mix deletes faster than it creates and the disposable tasks run out
+                yield target != null && send(request("/tasks/" + target).DELETE()).statusCode() == 204;
+            }
+        };
+    }
+
+    // A normal run only reads the committed baseline; -Pperf.update-baseline=true writes a new one under
+    // perf.report-dir, to be reviewed and copied over src/perf/resources/perf-baseline.json
+    private void compareWithBaseline(PerfReport report) throws IOException {
+        Path baselinePath = settings.baseline();
+        if (settings.updateBaseline()) {
+            Path recorded = settings.reportDir().resolve(baselinePath.getFileName());
+            objectMapper.writeValue(recorded.toFile(), report);
+            log.info("Recorded a new load test baseline at {}; copy it to {} to make it the gate", recorded,
+                    baselinePath);
+            return;
+        }
+        Assertions.assertTrue(Files.exists(baselinePath), "No load test baseline at " + baselinePath
+                + "; record one with -Pperf.update-baseline=true on the machine that runs the gate");
+        PerfReport baseline = objectMapper.readValue(baselinePath.toFile(), PerfReport.class);
+        Assertions.assertTrue(report.comparableTo(baseline), String.format(
+                "Baseline was recorded at %.0f req/s with mix %s but this run offered %.0f req/s with mix %s; "
+                        + "run with the baseline's settings or re-record it with -Pperf.update-baseline=true",
+                baseline.rate(), baseline.mix(), report.rate(), report.mix()));
+        List<String> regressions = report.regressionsAgainst(baseline, settings);
+        Assertions.assertTrue(regressions.isEmpty(), String.join("\n", regressions));
+    }
+
+    private void writeReport(PerfReport report, Map<Endpoint, Recorded> recorded) throws IOException {
+        Path reportDir = settings.reportDir();
+        Files.createDirectories(reportDir);
+        objectMapper.writeValue(reportDir.resolve("results.json").toFile(), report);
+        for (Map.Entry<Endpoint, Recorded> entry : recorded.entrySet()) {
+            Histogram latencies = entry.getValue().latencies();
+            // Percentile distribution in milliseconds, in the format HdrHistogram's plotter reads
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(reportDir.resolve(entry.getKey().key() + ".hgrm")))) {
+                latencies.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        report.endpoints().forEach((endpoint, stats) -> log.info(String.format(
+                "%-6s %7d requests, %6.1f/s, p50 %.2fms, p99 %.2fms, p99.9 %.2fms, max %.2fms",
+                endpoint, stats.requests(), stats.throughput(), stats.p50(), stats.p99(), stats.p999(),
+                stats.max())));
+    }
+
+    private List<Long> createTasks(int count) throws Exception {
+        StringJoiner tasks = new StringJoiner(",", "{\"tasks\": [", "]}");
+        for (int i = 0; i < count; i++) {
+            tasks.add(TASK_JSON.formatted("seed-" + UUID.randomUUID()));
+        }
+        HttpResponse<String> response = send(request("/tasks/batch")
+                .POST(HttpRequest.BodyPublishers.ofString(tasks.toString()))
+                .header("Content-Type", "application/json"));
+        Assertions.assertEquals(201, response.statusCode(), response.body());
+        List<Long> ids = new ArrayList<>(count);
+        for (JsonNode result : objectMapper.readTree(response.body()).get("results")) {
+            ids.add(result.get("id").asLong());
+        }
+        return ids;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+    }
+
+    private static HttpRequest.Builder json(HttpRequest.Builder request, String method, String title) {
+        return request.method(method, HttpRequest.BodyPublishers.ofString(TASK_JSON.formatted(title)))
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
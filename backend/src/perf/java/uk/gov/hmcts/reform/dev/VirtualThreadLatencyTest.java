@@ -0,0 +1,153 @@
+package uk.gov.hmcts.reform.dev;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.PerfReport.EndpointStats;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// Boots the application once per thread mode against the same SQLite file and drives more concurrent clients than
+// Tomcat has platform threads, so the platform run queues requests in the connector while the virtual run queues
+// them in front of the database instead. The platform run is the baseline: the virtual run fails on the same p99
+// and throughput tolerances as TaskApiLoadTest (perf.p99-tolerance, perf.throughput-tolerance). Both runs and the
+// pinned count are written to threads.json in perf.report-dir.
+class VirtualThreadLatencyTest {
+
+    private static final int CLIENTS = 400;
+
+    private static final String TEST_DB_PATH = System.getProperty("java.io.tmpdir")
+            + "/task-thread-perf-"
+            + UUID.randomUUID()
+            + ".sqlite";
+
+    private static final String TASK_JSON = """
+            {"title": "%s", "description": "Thread mode task", "status": "PENDING", \
+            "dueDate": "2030-01-01T10:00:00"}""";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final PerfSettings settings = PerfSettings.fromSystemProperties();
+
+    @Test
+    void virtualThreadsShouldNotRegressAgainstPlatformThreads() throws Exception {
+        Run platform = measure(false);
+        Run virtual = measure(true);
+
+        Path reportDir = settings.reportDir();
+        Files.createDirectories(reportDir);
+        objectMapper.writeValue(reportDir.resolve("threads.json").toFile(), Map.of(
+                "platform", platform.report(), "virtual", virtual.report(), "virtualPinned", virtual.pinned()));
+        for (Run run : List.of(platform, virtual)) {
+            run.report().endpoints().forEach((endpoint, stats) -> Assertions.assertEquals(0, stats.errors(),
+                    endpoint + " had failed requests"));
+        }
+        List<String> regressions = virtual.report().regressionsAgainst(platform.report(), settings);
+        Assertions.assertTrue(regressions.isEmpty(), "virtual threads against platform threads:\n"
+                + String.join("\n", regressions));
+    }
+
+    private Run measure(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:sqlite:" + TEST_DB_PATH)
+                .run()) {
+            String base = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            long id = createTask(base);
+            runClients(base, id, settings.warmUp());
+            PerfReport report = runClients(base, id, settings.duration());
+            long pinned = virtualThreads
+                    ? context.getBean(MeterRegistry.class).timer("tasks.threads.pinned").count()
+                    : 0;
+            return new Run(report, pinned);
+        }
+    }
+
+    // Closed model: every client sends its next request as soon as the last one returns, so there is no offered rate
+    private PerfReport runClients(String base, long id, Duration duration) throws Exception {
+        Map<String, Target> targets = new LinkedHashMap<>();
+        // The list endpoint misses the task cache, so half the requests reach a reader connection
+        targets.put("list", new Target(get(base + "/tasks?size=20&count=none")));
+        targets.put("get", new Target(get(base + "/tasks/" + id)));
+        AtomicBoolean running = new AtomicBoolean(true);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                executor.submit(() -> {
+                    while (running.get()) {
+                        targets.values().forEach(this::send);
+                    }
+                });
+            }
+            Thread.sleep(duration.toMillis());
+            running.set(false);
+        }
+        double seconds = duration.toNanos() / 1_000_000_000.0;
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        targets.forEach((key, target) -> stats.put(key, target.stats(seconds)));
+        return new PerfReport(0, "clients=" + CLIENTS, stats);
+    }
+
+    private void send(Target target) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(target.request(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                target.errors().increment();
+            }
+        } catch (Exception ex) {
+            target.errors().increment();
+        }
+        target.latencies().recordValue((System.nanoTime() - start) / 1_000);
+    }
+
+    private long createTask(String base) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base + "/tasks"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(TASK_JSON.formatted("thread-" + UUID.randomUUID())))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        Assertions.assertEquals(201, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private record Target(HttpRequest request, Histogram latencies, LongAdder errors) {
+
+        Target(HttpRequest request) {
+            this(request, new ConcurrentHistogram(3), new LongAdder());
+        }
+
+        EndpointStats stats(double seconds) {
+            long requests = latencies.getTotalCount();
+            return EndpointStats.of(requests, errors.sum(), (requests - errors.sum()) / seconds, latencies);
+        }
+    }
+
+    private record Run(PerfReport report, long pinned) {
+    }
+}
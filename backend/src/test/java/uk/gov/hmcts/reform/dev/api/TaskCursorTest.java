@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class TaskCursorTest {
+
+    @Test
+    void encodeAndDecode_shouldRoundTripEverySortOption() {
+        Task task = new Task();
+        task.setId(42L);
+        task.setTitle("Title | with separator");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setDueDate(LocalDateTime.of(2030, 1, 2, 3, 4, 5));
+
+        for (TaskSortBy sortBy : TaskSortBy.values()) {
+            TaskCursor cursor = TaskCursor.of(task, sortBy, SortDirection.DESC);
+
+            assertThat(TaskCursor.decode(cursor.encode())).isEqualTo(cursor);
+        }
+    }
+
+    @Test
+    void toScrollPosition_shouldIncludeSortKeyAndIdTiebreaker() {
+        Task task = new Task();
+        task.setId(7L);
+        task.setTitle("Task");
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.of(2030, 6, 1, 10, 0));
+
+        KeysetScrollPosition position = TaskCursor.of(task, TaskSortBy.DUE_DATE, SortDirection.ASC)
+                .toScrollPosition();
+
+        assertThat(position.getKeys())
+                .containsOnly(entry("dueDate", LocalDateTime.of(2030, 6, 1, 10, 0)), entry("id", 7L));
+    }
+
+    @Test
+    void decode_shouldRejectTamperedToken() {
+        assertThatThrownBy(() -> TaskCursor.decode("!!!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskExportWriterTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void shouldWriteCsvHeaderAndQuoteValuesThatNeedIt() throws Exception {
+        StringWriter out = new StringWriter();
+        TaskExportWriter writer = new TaskExportWriter(TaskFileFormat.CSV, objectMapper, out);
+
+        writer.writeHeader();
+        writer.accept(new TaskResponse(1L, 2L, "Plain", "Says \"hi\", then\nleaves", TaskStatus.PENDING,
+                DUE, DUE, DUE));
+        writer.accept(new TaskResponse(2L, 0L, "No description", null, TaskStatus.COMPLETED, DUE, DUE, DUE));
+        writer.flush();
+
+        assertThat(out.toString()).isEqualTo(TaskExportWriter.CSV_HEADER + "\n"
+                + "1,2,Plain,\"Says \"\"hi\"\", then\nleaves\",PENDING,"
+                + "2030-01-01T10:00:00,2030-01-01T10:00:00,2030-01-01T10:00:00\n"
+                + "2,0,No description,,COMPLETED,2030-01-01T10:00:00,2030-01-01T10:00:00,2030-01-01T10:00:00\n");
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        StringWriter out = new StringWriter();
+        TaskExportWriter writer = new TaskExportWriter(TaskFileFormat.NDJSON, objectMapper, out);
+
+        writer.writeHeader();
+        writer.accept(new TaskResponse(1L, 0L, "First", null, TaskStatus.PENDING, DUE, DUE, DUE));
+        writer.accept(new TaskResponse(2L, 0L, "Second", null, TaskStatus.PENDING, DUE, DUE, DUE));
+        writer.flush();
+
+        String[] lines = out.toString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("First");
+        assertThat(objectMapper.readTree(lines[1]).get("dueDate").asText()).isEqualTo("2030-01-01T10:00:00");
+    }
+}
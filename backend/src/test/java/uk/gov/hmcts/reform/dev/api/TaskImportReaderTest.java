@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.services.TaskImportRow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskImportReaderTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void shouldReadNdjsonRowsAndRejectMalformedLinesWithoutStopping() throws Exception {
+        String body = """
+                {"title":"First","status":"PENDING","dueDate":"2030-01-01T10:00:00"}
+
+                {"title":"Broken",
+                null
+                {"title":"Second","description":"d","status":"COMPLETED","dueDate":"2030-01-01T10:00:00"}
+                """;
+
+        List<TaskImportRow> rows = read(TaskFileFormat.NDJSON, body);
+
+        assertThat(rows).extracting(TaskImportRow::number).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(rows.get(0).task().getTitle()).isEqualTo("First");
+        assertThat(rows.get(0).task().getDueDate()).isEqualTo(DUE);
+        assertThat(rows.get(1).error()).startsWith("Invalid JSON");
+        assertThat(rows.get(2).error()).isEqualTo("Row must be a JSON object");
+        assertThat(rows.get(3).task().getStatus()).isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void shouldReadCsvExportColumnsByNameIncludingQuotedLineBreaks() throws Exception {
+        String body = TaskExportWriter.CSV_HEADER + "\r\n"
+                + "1,0,Plain,\"Says \"\"hi\"\", then\nleaves\",PENDING,2030-01-01T10:00:00,x,y\r\n"
+                + "2,0,No description,,COMPLETED,2030-01-01T10:00:00,x,y\r\n";
+
+        List<TaskImportRow> rows = read(TaskFileFormat.CSV, body);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).task().getDescription()).isEqualTo("Says \"hi\", then\nleaves");
+        assertThat(rows.get(0).task().getStatus()).isEqualTo(TaskStatus.PENDING);
+        assertThat(rows.get(1).task().getTitle()).isEqualTo("No description");
+        assertThat(rows.get(1).task().getDescription()).isNull();
+        assertThat(rows.get(1).task().getDueDate()).isEqualTo(DUE);
+    }
+
+    @Test
+    void shouldRejectCsvRowsWithBadValuesOrAnUnterminatedQuote() throws Exception {
+        String body = "dueDate,status,title\n"
+                + "2030-01-01T10:00:00,DONE,Bad status\n"
+                + "tomorrow,PENDING,Bad date\n"
+                + "2030-01-01T10:00:00,PENDING,\"never closed\n";
+
+        List<TaskImportRow> rows = read(TaskFileFormat.CSV, body);
+
+        assertThat(rows).extracting(TaskImportRow::error).containsExactly(
+                "Invalid status: DONE", "Invalid dueDate: tomorrow", "Unterminated quoted field");
+    }
+
+    @Test
+    void shouldRequireACsvHeaderWithTheTaskColumns() {
+        assertThatThrownBy(() -> read(TaskFileFormat.CSV, "title,description\nA,B\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("title, status and dueDate");
+    }
+
+    @Test
+    void shouldRefuseRowsLongerThanTheLimit() {
+        String body = "{\"title\":\"" + "x".repeat(TaskImportReader.MAX_ROW_LENGTH) + "\"}\n";
+
+        assertThatThrownBy(() -> read(TaskFileFormat.NDJSON, body))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Row 1 is longer than");
+    }
+
+    private List<TaskImportRow> read(TaskFileFormat format, String body) throws Exception {
+        TaskImportReader reader = new TaskImportReader(format, objectMapper, new StringReader(body));
+        List<TaskImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSortByTest {
+
+    @Test
+    void toSort_shouldAppendIdTiebreakerInTheSameDirection() {
+        assertThat(TaskSortBy.DUE_DATE.toSort(SortDirection.DESC))
+                .containsExactly(Sort.Order.desc("dueDate"), Sort.Order.desc("id"));
+    }
+
+    @Test
+    void toSort_shouldSortByIdAlone() {
+        assertThat(TaskSortBy.ID.toSort(SortDirection.ASC)).containsExactly(Sort.Order.asc("id"));
+    }
+}
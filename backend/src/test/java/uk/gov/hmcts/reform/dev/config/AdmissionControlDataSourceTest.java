@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AdmissionControlDataSourceTest {
+
+    private final DataSource pool = mock(DataSource.class);
+    private final Connection pooled = mock(Connection.class);
+    private AdmissionControlDataSource admission;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        given(pool.getConnection()).willReturn(pooled);
+        admission = new AdmissionControlDataSource("sqlite-reader", pool, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void shouldRefuseACallerOnceEveryPermitIsHeld() throws SQLException {
+        admission.getConnection();
+
+        assertThatThrownBy(admission::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessage("Timed out after 50ms waiting for a sqlite-reader connection");
+    }
+
+    @Test
+    void shouldReturnThePermitWhenTheConnectionIsClosed() throws SQLException {
+        Connection first = admission.getConnection();
+        first.close();
+        first.close();
+
+        Connection second = admission.getConnection();
+
+        verify(pooled, times(2)).close();
+        assertThat(second).isNotNull();
+        assertThatThrownBy(admission::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void shouldReturnThePermitWhenThePoolFails() throws SQLException {
+        given(pool.getConnection()).willThrow(new SQLException("pool closed")).willReturn(pooled);
+
+        assertThatThrownBy(admission::getConnection).hasMessage("pool closed");
+        assertThat(admission.getConnection()).isNotNull();
+    }
+
+    @Test
+    void shouldDelegateEverythingElseToThePooledConnection() throws SQLException {
+        given(pooled.isReadOnly()).willReturn(true);
+
+        Connection connection = admission.getConnection();
+
+        assertThat(connection.isReadOnly()).isTrue();
+        assertThat(connection).isEqualTo(connection);
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import uk.gov.hmcts.reform.dev.exceptions.TaskChangesExpiredException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskChange;
+import uk.gov.hmcts.reform.dev.models.TaskChangeType;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.services.TaskChangeLog;
+import uk.gov.hmcts.reform.dev.services.TaskChangeResult;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskChangeController.class)
+class TaskChangeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskChangeLog taskChangeLog;
+
+    @Test
+    void getChanges_shouldReturnDeltasAndTheNextSince() throws Exception {
+        Task task = new Task();
+        task.setId(7L);
+        task.setTitle("Changed");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setDueDate(LocalDateTime.of(2030, 1, 1, 10, 0));
+        List<TaskChangeResult> results = List.of(
+                new TaskChangeResult(new TaskChange(21L, 7L, TaskChangeType.UPDATED, 3L, 1_700_000_000L), task),
+                new TaskChangeResult(new TaskChange(22L, 8L, TaskChangeType.DELETED, 1L, 1_700_000_000L), null));
+        given(taskChangeLog.getChanges(20L, 2)).willReturn(new SliceImpl<>(results, PageRequest.of(0, 2), true));
+
+        mockMvc.perform(get("/tasks/changes").param("since", "20").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].seq").value(21))
+                .andExpect(jsonPath("$.changes[0].type").value("UPDATED"))
+                .andExpect(jsonPath("$.changes[0].task.title").value("Changed"))
+                .andExpect(jsonPath("$.changes[1].id").value(8))
+                .andExpect(jsonPath("$.changes[1].task").doesNotExist())
+                .andExpect(jsonPath("$.next").value(22))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void getChanges_shouldEchoSinceWhenNothingChanged() throws Exception {
+        given(taskChangeLog.getChanges(5L, 100)).willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 100), false));
+
+        mockMvc.perform(get("/tasks/changes").param("since", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes").isEmpty())
+                .andExpect(jsonPath("$.next").value(5))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getChanges_shouldReturn400ForAnOutOfRangeLimit() throws Exception {
+        mockMvc.perform(get("/tasks/changes").param("limit", "1001"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("limit must be between 1 and 1000"));
+
+        verifyNoInteractions(taskChangeLog);
+    }
+
+    @Test
+    void getChanges_shouldReturn410WhenTheClientFellBehindCompaction() throws Exception {
+        given(taskChangeLog.getChanges(3L, 100)).willThrow(new TaskChangesExpiredException(3L));
+
+        mockMvc.perform(get("/tasks/changes").param("since", "3"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.message").value("Changes after 3 are no longer available, sync again from 0"));
+    }
+}
@@ -4,57 +4,106 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import uk.gov.hmcts.reform.dev.api.SortDirection;
+import uk.gov.hmcts.reform.dev.api.TaskBatchRequest;
+import uk.gov.hmcts.reform.dev.api.TaskBulkUpdateRequest;
+import uk.gov.hmcts.reform.dev.api.TaskCursor;
+import uk.gov.hmcts.reform.dev.api.TaskMapper;
 import uk.gov.hmcts.reform.dev.api.TaskRequest;
+import uk.gov.hmcts.reform.dev.api.TaskResponse;
+import uk.gov.hmcts.reform.dev.api.TaskSortBy;
 import uk.gov.hmcts.reform.dev.api.TaskUpdateRequest;
 import uk.gov.hmcts.reform.dev.models.Task;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskFilter;
+import uk.gov.hmcts.reform.dev.repository.TaskSearchQuery;
+import uk.gov.hmcts.reform.dev.services.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.services.TaskCollectionVersion;
+import uk.gov.hmcts.reform.dev.services.TaskSearchResult;
 import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.services.TaskWriteCoordinator;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import uk.gov.hmcts.reform.dev.exceptions.InvalidTaskStateException;
 import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
 
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import static org.mockito.ArgumentMatchers.argThat;
 
 @WebMvcTest(TaskController.class)
 class TaskControllerTest {
 
+    private static final String COLLECTION_ETAG = "\"tasks-7-2-0\"";
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private TaskWriteCoordinator taskWriteCoordinator;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void stubCollectionVersion() {
+        given(taskService.getCollectionVersion()).willReturn(new TaskCollectionVersion(7L, 2L, null));
+        given(taskWriteCoordinator.execute(any(), any())).willAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(1).get());
+        given(taskWriteCoordinator.execute(any())).willAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+    }
+
     @Test
     void getTaskById_shouldReturnTaskDto() throws Exception {
         Task task = new Task();
@@ -74,6 +123,76 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.id").value(1L));
     }
 
+    @Test
+    void getTaskById_shouldReturnETagDerivedFromIdAndVersion() throws Exception {
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("Sample Task");
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(task, "version", 3L);
+
+        given(taskService.getTaskById(1L)).willReturn(Optional.of(task));
+
+        mockMvc.perform(get("/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""));
+    }
+
+    @Test
+    void getTaskById_shouldReturnOnlyRequestedFields() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("title", "Sample Task");
+        row.put("version", 3L);
+        given(taskService.getTaskAttributesById(1L, List.of("id", "title", "version"))).willReturn(Optional.of(row));
+
+        mockMvc.perform(get("/tasks/1").param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                .andExpect(content().json("{\"id\": 1, \"title\": \"Sample Task\"}", true));
+
+        verify(taskService, never()).getTaskById(any());
+    }
+
+    @Test
+    void getTaskById_shouldReturnNotFoundForSparseRequestOfMissingTask() throws Exception {
+        given(taskService.getTaskAttributesById(99L, List.of("status", "version"))).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/tasks/99").param("fields", "status"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getTaskById_shouldReturnNotModifiedFromVersionLookupWhenETagMatches() throws Exception {
+        given(taskService.getTaskVersion(1L)).willReturn(Optional.of(3L));
+
+        mockMvc.perform(get("/tasks/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).getTaskById(any());
+    }
+
+    @Test
+    void getTaskById_shouldReturnFullTaskWhenETagIsStale() throws Exception {
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("Sample Task");
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(task, "version", 4L);
+
+        given(taskService.getTaskVersion(1L)).willReturn(Optional.of(4L));
+        given(taskService.getTaskById(1L)).willReturn(Optional.of(task));
+
+        mockMvc.perform(get("/tasks/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
     @Test
     void getTaskById_shouldReturnNotFoundForNonExistingTask() throws Exception {
         given(taskService.getTaskById(999L)).willReturn(Optional.empty());
@@ -105,12 +224,13 @@ class TaskControllerTest {
         task2.setDueDate(LocalDateTime.now().plusDays(2));
 
         PageRequest pageRequest = PageRequest.of(0, 20, Sort.by("id").ascending());
-        Page<Task> paged = new PageImpl<>(List.of(task1, task2), pageRequest, 2);
+        Page<TaskResponse> paged = new PageImpl<>(
+                List.of(TaskMapper.toResponse(task1), TaskMapper.toResponse(task2)), pageRequest, 2);
 
-        given(taskService.getAllTasks(argThat(p -> p.getPageNumber() == 0
+        given(taskService.getAllTasks(eq(TaskFilter.NONE), argThat(p -> p.getPageNumber() == 0
                 && p.getPageSize() == 20
                 && p.getSort().getOrderFor("id") != null
-                && p.getSort().getOrderFor("id").isAscending()))).willReturn(paged);
+                && p.getSort().getOrderFor("id").isAscending()), eq(TaskResponse.class))).willReturn(paged);
 
         mockMvc.perform(get("/tasks"))
                 .andExpect(status().isOk())
@@ -125,6 +245,27 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.last").value(true));
     }
 
+    @Test
+    void getAllTasks_shouldReturnCollectionETag() throws Exception {
+        PageRequest pageRequest = PageRequest.of(0, 20, Sort.by("id").ascending());
+        given(taskService.getAllTasks(TaskFilter.NONE, pageRequest, TaskResponse.class))
+                .willReturn(new PageImpl<>(List.of(), pageRequest, 0));
+
+        mockMvc.perform(get("/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, COLLECTION_ETAG));
+    }
+
+    @Test
+    void getAllTasks_shouldReturnNotModifiedWithoutQueryingWhenCollectionIsUnchanged() throws Exception {
+        mockMvc.perform(get("/tasks").header(HttpHeaders.IF_NONE_MATCH, COLLECTION_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).getAllTasks(any(), any(), any());
+        verify(taskService, never()).getTaskSlice(any(), any(), any());
+    }
+
     @Test
     void getAllTasks_shouldReturnBadRequestWhenSizeIsInvalid() throws Exception {
         mockMvc.perform(get("/tasks").param("size", "0"))
@@ -132,6 +273,290 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.message").value("size must be between 1 and 100"));
     }
 
+    @Test
+    void getAllTasks_shouldOmitTotalsWhenCountIsNone() throws Exception {
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("Task 1");
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.now().plusDays(1));
+
+        PageRequest pageRequest = PageRequest.of(0, 1, Sort.by("id").ascending());
+        given(taskService.getTaskSlice(TaskFilter.NONE, pageRequest, TaskResponse.class))
+                .willReturn(new SliceImpl<>(List.of(TaskMapper.toResponse(task)), pageRequest, true));
+
+        mockMvc.perform(get("/tasks").param("size", "1").param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist())
+                .andExpect(jsonPath("$.first").value(true))
+                .andExpect(jsonPath("$.last").value(false));
+
+        verify(taskService, never()).getAllTasks(any(), any(), any());
+        verify(taskService, never()).countTasks(any());
+    }
+
+    @Test
+    void getAllTasks_shouldServeTotalsFromMaintainedCounts() throws Exception {
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("Task 1");
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.now().plusDays(1));
+
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by("id").ascending());
+        given(taskService.getTaskSlice(TaskFilter.NONE, pageRequest, TaskResponse.class))
+                .willReturn(new SliceImpl<>(List.of(TaskMapper.toResponse(task)), pageRequest, true));
+        given(taskService.countTasks(TaskFilter.NONE)).willReturn(5L);
+
+        mockMvc.perform(get("/tasks").param("size", "2").param("count", "maintained"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.totalPages").value(3))
+                .andExpect(jsonPath("$.last").value(false));
+
+        verify(taskService, never()).getAllTasks(any(), any(), any());
+    }
+
+    @Test
+    void getAllTasks_shouldPassFiltersToService() throws Exception {
+        PageRequest pageRequest = PageRequest.of(0, 20, Sort.by("id").ascending());
+        TaskFilter filter = new TaskFilter(
+                Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS),
+                LocalDateTime.of(2030, 1, 1, 0, 0), null, null, null);
+        given(taskService.getAllTasks(filter, pageRequest, TaskResponse.class))
+                .willReturn(new PageImpl<>(List.of(), pageRequest, 0));
+
+        mockMvc.perform(get("/tasks")
+                        .param("status", "pending", "IN_PROGRESS")
+                        .param("dueBefore", "2030-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+
+        verify(taskService).getAllTasks(filter, pageRequest, TaskResponse.class);
+    }
+
+    @Test
+    void getAllTasks_shouldReturnBadRequestWhenStatusFilterIsInvalid() throws Exception {
+        mockMvc.perform(get("/tasks").param("status", "ARCHIVED"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).getAllTasks(any(), any(), any());
+    }
+
+    @Test
+    void getAllTasks_shouldReturnBadRequestWhenDueRangeIsEmpty() throws Exception {
+        mockMvc.perform(get("/tasks")
+                        .param("dueAfter", "2030-01-01T00:00:00")
+                        .param("dueBefore", "2029-01-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("dueAfter must be before dueBefore"));
+    }
+
+    @Test
+    void getAllTasks_shouldValidateBeforeAnsweringNotModified() throws Exception {
+        mockMvc.perform(get("/tasks")
+                        .header(HttpHeaders.IF_NONE_MATCH, COLLECTION_ETAG)
+                        .param("dueAfter", "2030-01-01T00:00:00")
+                        .param("dueBefore", "2029-01-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("dueAfter must be before dueBefore"));
+
+        mockMvc.perform(get("/tasks")
+                        .header(HttpHeaders.IF_NONE_MATCH, COLLECTION_ETAG)
+                        .param("count", "maintained")
+                        .param("dueBefore", "2030-01-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("count=maintained only supports the status filter"));
+
+        mockMvc.perform(get("/tasks").header(HttpHeaders.IF_NONE_MATCH, COLLECTION_ETAG).param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAllTasks_shouldSelectOnlyRequestedFields() throws Exception {
+        PageRequest pageRequest = PageRequest.of(0, 20, Sort.by("id").ascending());
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("status", TaskStatus.PENDING);
+        given(taskService.getTaskSliceAttributes(TaskFilter.NONE, pageRequest, List.of("id", "status")))
+                .willReturn(new SliceImpl<>(List.of(row), pageRequest, false));
+
+        mockMvc.perform(get("/tasks").param("fields", "id,status,id").param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.items[0].title").doesNotExist())
+                .andExpect(jsonPath("$.items[0].description").doesNotExist());
+
+        verify(taskService, never()).getTaskSlice(any(), any(), any());
+    }
+
+    @Test
+    void getAllTasks_shouldReturnBadRequestWhenFieldIsUnknown() throws Exception {
+        mockMvc.perform(get("/tasks").param("fields", "id,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid parameter: fields"));
+    }
+
+    @Test
+    void getAllTasks_shouldReturnBadRequestWhenCountModeIsInvalid() throws Exception {
+        mockMvc.perform(get("/tasks").param("count", "approximate"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid parameter: count"));
+    }
+
+    @Test
+    void exportTasks_shouldStreamCsvForFilteredTasks() throws Exception {
+        TaskFilter filter = new TaskFilter(Set.of(TaskStatus.PENDING), null, null, null, null);
+        LocalDateTime due = LocalDateTime.of(2030, 1, 1, 10, 0);
+        given(taskService.exportTasks(eq(filter), eq(TaskResponse.class), any())).willAnswer(invocation -> {
+            Consumer<TaskResponse> sink = invocation.getArgument(2);
+            sink.accept(new TaskResponse(1L, 0L, "First, task", null, TaskStatus.PENDING, due, due, due));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/tasks/export").param("format", "csv").param("status", "pending"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.csv\""))
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string("id,version,title,description,status,dueDate,createdAt,updatedAt\n"
+                        + "1,0,\"First, task\",,PENDING,"
+                        + "2030-01-01T10:00:00,2030-01-01T10:00:00,2030-01-01T10:00:00\n"));
+    }
+
+    @Test
+    void exportTasks_shouldReturnBadRequestWhenFormatIsUnknown() throws Exception {
+        mockMvc.perform(get("/tasks/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid parameter: format"));
+
+        verify(taskService, never()).exportTasks(any(), any(), any());
+    }
+
+    @Test
+    void searchTasks_shouldReturnEscapedHighlights() throws Exception {
+        Task task = new Task();
+        task.setId(3L);
+        task.setTitle("Court <b>bundle</b>");
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.now().plusDays(1));
+
+        PageRequest pageRequest = PageRequest.of(0, 20);
+        given(taskService.searchTasks(new TaskSearchQuery("cour"), pageRequest)).willReturn(new SliceImpl<>(
+                List.of(new TaskSearchResult(task, "\u0002Court\u0003 <b>bundle</b>", null)), pageRequest, false));
+
+        mockMvc.perform(get("/tasks/search").param("q", "cour"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].task.id").value(3))
+                .andExpect(jsonPath("$.items[0].titleHighlight")
+                        .value("<mark>Court</mark> &lt;b&gt;bundle&lt;/b&gt;"))
+                .andExpect(jsonPath("$.items[0].snippet").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void searchTasks_shouldReturnBadRequestWhenQueryIsBlank() throws Exception {
+        mockMvc.perform(get("/tasks/search").param("q", "  "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("q must not be blank"));
+
+        verify(taskService, never()).searchTasks(any(), any());
+    }
+
+    @Test
+    void getTaskCounts_shouldReturnTotalAndPerStatusCounts() throws Exception {
+        given(taskService.getTaskCounts()).willReturn(Map.of(
+                TaskStatus.PENDING, 3L,
+                TaskStatus.IN_PROGRESS, 1L,
+                TaskStatus.COMPLETED, 2L));
+
+        mockMvc.perform(get("/tasks/counts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(6))
+                .andExpect(jsonPath("$.byStatus.PENDING").value(3))
+                .andExpect(jsonPath("$.byStatus.COMPLETED").value(2));
+    }
+
+    @Test
+    void getTasksAfter_shouldReturnFirstCursorPageWhenAfterIsEmpty() throws Exception {
+        Task task1 = new Task();
+        task1.setId(1L);
+        task1.setTitle("Alpha");
+        task1.setStatus(TaskStatus.PENDING);
+        task1.setDueDate(LocalDateTime.now().plusDays(1));
+
+        Task task2 = new Task();
+        task2.setId(2L);
+        task2.setTitle("Bravo");
+        task2.setStatus(TaskStatus.PENDING);
+        task2.setDueDate(LocalDateTime.now().plusDays(2));
+
+        Window<Task> window = Window.from(List.of(task1, task2), i -> ScrollPosition.offset(i), true);
+        given(taskService.scrollTasks(eq(TaskFilter.NONE), eq(ScrollPosition.keyset()), any(Sort.class), eq(2)))
+                .willReturn(window);
+
+        String expectedCursor = TaskCursor.of(task2, TaskSortBy.TITLE, SortDirection.ASC).encode();
+
+        mockMvc.perform(get("/tasks")
+                .param("after", "")
+                .param("size", "2")
+                .param("sortBy", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[1].title").value("Bravo"))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(expectedCursor));
+    }
+
+    @Test
+    void getTasksAfter_shouldResumeFromCursorPosition() throws Exception {
+        Task task = new Task();
+        task.setId(3L);
+        task.setTitle("Charlie");
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.now().plusDays(3));
+
+        TaskCursor cursor = new TaskCursor(TaskSortBy.ID, SortDirection.ASC, 2L, "");
+        Window<Task> window = Window.from(List.of(task), i -> ScrollPosition.offset(i), false);
+        given(taskService.scrollTasks(eq(TaskFilter.NONE), eq(cursor.toScrollPosition()), any(Sort.class), eq(20)))
+                .willReturn(window);
+
+        mockMvc.perform(get("/tasks").param("after", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(3L))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getTasksAfter_shouldReturnBadRequestWhenCursorDoesNotMatchSort() throws Exception {
+        TaskCursor cursor = new TaskCursor(TaskSortBy.ID, SortDirection.ASC, 2L, "");
+
+        mockMvc.perform(get("/tasks")
+                .param("after", cursor.encode())
+                .param("direction", "desc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("after cursor does not match sortBy and direction"));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getTasksAfter_shouldReturnBadRequestWhenCursorIsMalformed() throws Exception {
+        mockMvc.perform(get("/tasks").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+
+        verifyNoInteractions(taskService);
+    }
+
     @Test
     void createTask_shouldReturnCreatedTaskDto() throws Exception {
         LocalDateTime dueDate = LocalDateTime.now().plusDays(1);
@@ -225,6 +650,66 @@ class TaskControllerTest {
         verifyNoInteractions(taskService);
     }
 
+    @Test
+    void createTasks_shouldReturnCreatedWhenEveryItemIsInserted() throws Exception {
+        LocalDateTime dueDate = LocalDateTime.now().plusDays(1);
+        Task first = new Task();
+        first.setId(10L);
+        Task second = new Task();
+        second.setId(11L);
+
+        given(taskService.createTasks(anyList())).willReturn(List.of(
+                TaskBatchResult.created(0, first),
+                TaskBatchResult.created(1, second)));
+
+        TaskBatchRequest request = new TaskBatchRequest(List.of(
+                new TaskRequest("First", null, TaskStatus.PENDING, dueDate),
+                new TaskRequest("Second", null, TaskStatus.PENDING, dueDate)));
+
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.results[1].id").value(11L))
+                .andExpect(jsonPath("$.results[1].error").doesNotExist());
+    }
+
+    @Test
+    void createTasks_shouldReturnMultiStatusWhenSomeItemsAreRejected() throws Exception {
+        Task first = new Task();
+        first.setId(10L);
+
+        given(taskService.createTasks(anyList())).willReturn(List.of(
+                TaskBatchResult.created(0, first),
+                TaskBatchResult.rejected(1, "Task title must not be null or empty")));
+
+        TaskBatchRequest request = new TaskBatchRequest(List.of(
+                new TaskRequest("First", null, TaskStatus.PENDING, LocalDateTime.now()),
+                new TaskRequest(" ", null, TaskStatus.PENDING, LocalDateTime.now())));
+
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[1].id").doesNotExist())
+                .andExpect(jsonPath("$.results[1].error").value("Task title must not be null or empty"));
+    }
+
+    @Test
+    void createTasks_shouldReturnBadRequestWhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"tasks\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors.tasks").value("tasks must not be empty"));
+
+        verifyNoInteractions(taskService);
+    }
+
     @Test
     void updateTaskStatus_shouldReturnUpdatedTask() throws Exception {
         LocalDateTime dueDate = LocalDateTime.now().plusDays(2);
@@ -241,7 +726,7 @@ class TaskControllerTest {
                 TaskStatus.COMPLETED,
                 dueDate);
 
-        given(taskService.updateTask(any(Task.class))).willReturn(updated);
+        given(taskService.updateTask(any(Task.class), isNull())).willReturn(updated);
 
         mockMvc.perform(patch("/tasks/1")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -277,7 +762,7 @@ class TaskControllerTest {
                 TaskStatus.PENDING,
                 LocalDateTime.now().plusDays(1));
 
-        given(taskService.updateTask(any(Task.class))).willThrow(new TaskNotFoundException(999L));
+        given(taskService.updateTask(any(Task.class), isNull())).willThrow(new TaskNotFoundException(999L));
 
         mockMvc.perform(patch("/tasks/999")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -294,7 +779,7 @@ class TaskControllerTest {
                 TaskStatus.IN_PROGRESS,
                 LocalDateTime.now().plusDays(1));
 
-        given(taskService.updateTask(any(Task.class)))
+        given(taskService.updateTask(any(Task.class), isNull()))
                 .willThrow(new InvalidTaskStateException(
                         "Cannot move task from COMPLETED to another state"));
 
@@ -306,6 +791,57 @@ class TaskControllerTest {
                         .value("Cannot move task from COMPLETED to another state"));
     }
 
+    @Test
+    void updateTaskStatus_shouldPassIfMatchVersionAndReturnNewETag() throws Exception {
+        Task updated = new Task();
+        updated.setId(1L);
+        updated.setTitle("Task");
+        updated.setStatus(TaskStatus.IN_PROGRESS);
+        updated.setDueDate(LocalDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(updated, "version", 4L);
+        given(taskService.updateTask(any(Task.class), eq(3L))).willReturn(updated);
+
+        mockMvc.perform(patch("/tasks/1")
+                .header(HttpHeaders.IF_MATCH, "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""));
+    }
+
+    @Test
+    void updateTaskStatus_shouldReturnPreconditionFailedWhenVersionIsStale() throws Exception {
+        given(taskService.updateTask(any(Task.class), eq(3L))).willThrow(new TaskVersionMismatchException(1L));
+
+        mockMvc.perform(patch("/tasks/1")
+                .header(HttpHeaders.IF_MATCH, "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"IN_PROGRESS\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateTaskStatus_shouldReturnPreconditionFailedWhenIfMatchNamesAnotherTask() throws Exception {
+        mockMvc.perform(patch("/tasks/1")
+                .header(HttpHeaders.IF_MATCH, "\"2-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"IN_PROGRESS\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(taskWriteCoordinator);
+    }
+
+    @Test
+    void updateTaskStatus_shouldReturnConflictWhenRetriesAreExhausted() throws Exception {
+        given(taskService.updateTask(any(Task.class), isNull()))
+                .willThrow(new CannotAcquireLockException("database is locked"));
+
+        mockMvc.perform(patch("/tasks/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"IN_PROGRESS\"}"))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void updateTaskStatus_shouldReturnBadRequestWhenPatchBodyHasNoFields() throws Exception {
         TaskUpdateRequest request = new TaskUpdateRequest(null, null, null, null);
@@ -320,9 +856,36 @@ class TaskControllerTest {
         verifyNoInteractions(taskService);
     }
 
+    @Test
+    void bulkUpdateTasks_shouldReturnUpdatedCount() throws Exception {
+        given(taskService.bulkUpdateTasks(argThat(u -> u.ids().equals(List.of(1L, 2L))
+                && u.status() == TaskStatus.IN_PROGRESS))).willReturn(2);
+
+        TaskBulkUpdateRequest request = new TaskBulkUpdateRequest(
+                List.of(1L, 2L), null, null, TaskStatus.IN_PROGRESS, null);
+
+        mockMvc.perform(patch("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+    }
+
+    @Test
+    void bulkUpdateTasks_shouldReturnBadRequestWhenSelectorIsInvalid() throws Exception {
+        given(taskService.bulkUpdateTasks(any()))
+                .willThrow(new IllegalArgumentException("Exactly one of ids or dueBefore must be provided"));
+
+        mockMvc.perform(patch("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"COMPLETED\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Exactly one of ids or dueBefore must be provided"));
+    }
+
     @Test
     void deleteTask_shouldReturnNotFoundWhenTaskDoesNotExist() throws Exception {
-        willThrow(new TaskNotFoundException(999L)).given(taskService).deleteTask(999L);
+        willThrow(new TaskNotFoundException(999L)).given(taskService).deleteTask(999L, null);
 
         mockMvc.perform(delete("/tasks/999"))
                 .andExpect(status().isNotFound())
@@ -332,12 +895,29 @@ class TaskControllerTest {
     @Test
     void deleteTask_shouldReturnNoContent() throws Exception {
         Long taskId = 1L;
-        willDoNothing().given(taskService).deleteTask(taskId);
+        willDoNothing().given(taskService).deleteTask(taskId, null);
 
         mockMvc.perform(delete("/tasks/{id}", taskId))
                 .andExpect(status().isNoContent());
 
-        verify(taskService).deleteTask(taskId);
+        verify(taskService).deleteTask(taskId, null);
+    }
+
+    @Test
+    void deleteTask_shouldPassIfMatchVersion() throws Exception {
+        mockMvc.perform(delete("/tasks/1").header(HttpHeaders.IF_MATCH, "\"1-5\""))
+                .andExpect(status().isNoContent());
+
+        verify(taskService).deleteTask(1L, 5L);
+    }
+
+    @Test
+    void deleteTasks_shouldReturnDeletedCount() throws Exception {
+        given(taskService.deleteTasks(List.of(1L, 2L, 3L))).willReturn(3);
+
+        mockMvc.perform(delete("/tasks").param("ids", "1,2,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(3));
     }
 
 }
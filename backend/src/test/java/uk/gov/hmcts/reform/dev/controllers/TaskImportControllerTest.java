@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import uk.gov.hmcts.reform.dev.exceptions.InvalidTaskStateException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.models.TaskImport;
+import uk.gov.hmcts.reform.dev.models.TaskImportStatus;
+import uk.gov.hmcts.reform.dev.services.TaskImportResult;
+import uk.gov.hmcts.reform.dev.services.TaskImportRow;
+import uk.gov.hmcts.reform.dev.services.TaskImportService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskImportController.class)
+class TaskImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskImportService taskImportService;
+
+    @Test
+    void createImport_shouldReturn201WithAPendingImport() throws Exception {
+        given(taskImportService.createImport()).willReturn(taskImport(TaskImportStatus.PENDING, 0));
+
+        mockMvc.perform(post("/tasks/imports"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(4))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.rowsCommitted").value(0))
+                .andExpect(jsonPath("$.rejections").doesNotExist());
+    }
+
+    @Test
+    void uploadImport_shouldParseCsvBodyAndReturnTheSummary() throws Exception {
+        given(taskImportService.getImport(4L)).willReturn(taskImport(TaskImportStatus.PENDING, 0));
+        List<TaskImportRow> parsed = new ArrayList<>();
+        given(taskImportService.runImport(eq(4L), any())).willAnswer(invocation -> {
+            Iterator<TaskImportRow> rows = invocation.getArgument(1);
+            rows.forEachRemaining(parsed::add);
+            return new TaskImportResult(taskImport(TaskImportStatus.COMPLETED, 2),
+                    List.of(TaskImportRow.rejected(2, "Invalid status: DONE")));
+        });
+
+        mockMvc.perform(put("/tasks/imports/4").param("format", "csv").contentType("text/csv")
+                        .content("title,status,dueDate\nA,PENDING,2030-01-01T10:00:00\nB,DONE,2030-01-01T10:00:00\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.rowsCommitted").value(2))
+                .andExpect(jsonPath("$.rejections[0].row").value(2))
+                .andExpect(jsonPath("$.rejections[0].error").value("Invalid status: DONE"));
+
+        assertThat(parsed).hasSize(2);
+        assertThat(parsed.get(0).task().getTitle()).isEqualTo("A");
+        assertThat(parsed.get(1).error()).isEqualTo("Invalid status: DONE");
+    }
+
+    @Test
+    void uploadImport_shouldReturn400ForACsvWithoutTheRequiredHeader() throws Exception {
+        given(taskImportService.getImport(4L)).willReturn(taskImport(TaskImportStatus.PENDING, 0));
+
+        mockMvc.perform(put("/tasks/imports/4").param("format", "csv").content("name\nA\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("CSV header must include title, status and dueDate columns"));
+
+        verify(taskImportService, never()).runImport(any(), any());
+    }
+
+    @Test
+    void uploadImport_shouldReturn409WhenTheImportHasCompleted() throws Exception {
+        given(taskImportService.getImport(4L)).willReturn(taskImport(TaskImportStatus.COMPLETED, 1));
+        given(taskImportService.runImport(eq(4L), any()))
+                .willThrow(new InvalidTaskStateException("Import 4 has already completed"));
+
+        mockMvc.perform(put("/tasks/imports/4").content("{}\n"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void getImport_shouldReturn404ForAnUnknownImport() throws Exception {
+        given(taskImportService.getImport(9L)).willThrow(new TaskNotFoundException("Import not found with id 9"));
+
+        mockMvc.perform(get("/tasks/imports/9"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Import not found with id 9"));
+    }
+
+    private static TaskImport taskImport(TaskImportStatus status, long rowsCommitted) {
+        TaskImport taskImport = new TaskImport();
+        ReflectionTestUtils.setField(taskImport, "id", 4L);
+        ReflectionTestUtils.setField(taskImport, "status", status);
+        ReflectionTestUtils.setField(taskImport, "rowsCommitted", rowsCommitted);
+        return taskImport;
+    }
+}
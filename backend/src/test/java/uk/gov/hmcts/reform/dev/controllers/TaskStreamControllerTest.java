@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import uk.gov.hmcts.reform.dev.services.TaskChangeFeed;
+import uk.gov.hmcts.reform.dev.services.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.services.TaskStreamEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskStreamController.class)
+class TaskStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskChangeFeed taskChangeFeed;
+
+    @BeforeEach
+    void stubSubscribe() {
+        given(taskChangeFeed.subscribe(any(), any())).willReturn(mock(TaskChangeFeed.Subscription.class));
+    }
+
+    @Test
+    void streamChanges_shouldWriteFeedEventsAsServerSentEvents() throws Exception {
+        MvcResult result = mockMvc.perform(get("/tasks/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ArgumentCaptor<TaskChangeFeed.Sink> sink = ArgumentCaptor.forClass(TaskChangeFeed.Sink.class);
+        verify(taskChangeFeed).subscribe(isNull(), sink.capture());
+        sink.getValue().send("7f3a-41", new TaskStreamEvent(41L, TaskChangedEvent.Type.UPDATED, 5L, 2L));
+        sink.getValue().resync("7f3a-42");
+        sink.getValue().close();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body).contains("id:7f3a-41\nevent:updated\ndata:{\"id\":5,\"version\":2}\n\n");
+        assertThat(body).contains("id:7f3a-42\nevent:resync\ndata:{}\n\n");
+    }
+
+    @Test
+    void streamChanges_shouldResumeFromLastEventId() throws Exception {
+        mockMvc.perform(get("/tasks/stream").header("Last-Event-ID", "7f3a-41"))
+                .andExpect(request().asyncStarted());
+
+        verify(taskChangeFeed).subscribe(eq("7f3a-41"), any());
+    }
+}
@@ -13,12 +13,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import uk.gov.hmcts.reform.dev.api.SortDirection;
+import uk.gov.hmcts.reform.dev.api.TaskResponse;
+import uk.gov.hmcts.reform.dev.api.TaskCursor;
+import uk.gov.hmcts.reform.dev.api.TaskSortBy;
+
 @DataJpaTest // Spins up in-memory persistence for testing repositories
 class TaskRepositoryTest {
 
@@ -62,6 +78,18 @@ class TaskRepositoryTest {
         assertThat(saved.getUpdatedAt()).isNotNull();
     }
 
+    @Test
+    void findVersionById_shouldReturnOnlyTheVersion() {
+        Task task = new Task();
+        task.setTitle("Versioned Task");
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.now().plusDays(1));
+        Task saved = repository.saveAndFlush(task);
+
+        assertThat(repository.findVersionById(saved.getId())).contains(saved.getVersion());
+        assertThat(repository.findVersionById(saved.getId() + 1000)).isEmpty();
+    }
+
     @Test
     void concurrentUpdates_shouldThrowOptimisticLockingException() {
         Task task = new Task();
@@ -194,4 +222,233 @@ class TaskRepositoryTest {
         // Assert
         assertThat(repository.findById(task.getId()).isPresent()).isFalse();
     }
+
+    @Test
+    @Transactional
+    void scrollByKeyset_shouldResumeAfterCursorWithIdTiebreaker() {
+        // Arrange
+        for (String title : List.of("Bravo", "Alpha", "Bravo", "Charlie")) {
+            Task task = new Task();
+            task.setTitle(title);
+            task.setStatus(TaskStatus.PENDING);
+            task.setDueDate(LocalDateTime.now());
+            repository.saveAndFlush(task);
+        }
+        Specification<Task> all = (root, query, builder) -> null;
+        Sort sort = Sort.by(Sort.Direction.ASC, "title");
+
+        // Act
+        Window<Task> first = repository.findBy(all, q -> q.sortBy(sort).limit(2).scroll(ScrollPosition.keyset()));
+        TaskCursor cursor = TaskCursor.of(first.getContent().get(1), TaskSortBy.TITLE, SortDirection.ASC);
+        Window<Task> second = repository.findBy(all, q -> q.sortBy(sort).limit(2).scroll(cursor.toScrollPosition()));
+
+        // Assert
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getContent()).extracting(Task::getTitle).containsExactly("Alpha", "Bravo");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getContent()).extracting(Task::getTitle).containsExactly("Bravo", "Charlie");
+    }
+
+    @Test
+    @Transactional
+    void updateAll_shouldMoveSelectedTasksInOneStatementAndKeepCompletedTerminal() {
+        // Arrange
+        Task pending = newTask("Pending", TaskStatus.PENDING, LocalDateTime.now().minusDays(1));
+        Task completed = newTask("Completed", TaskStatus.COMPLETED, LocalDateTime.now().minusDays(1));
+        Task notSelected = newTask("Not selected", TaskStatus.PENDING, LocalDateTime.now().minusDays(1));
+        entityManager.clear();
+
+        TaskBulkUpdate update = new TaskBulkUpdate(
+                List.of(pending.getId(), completed.getId(), Long.MAX_VALUE), null, null, TaskStatus.IN_PROGRESS, null);
+
+        // Act
+        List<Long> updatable = repository.findUpdatableIds(update);
+        int updated = repository.updateAll(update);
+        entityManager.clear();
+
+        // Assert
+        assertThat(updatable).containsExactly(pending.getId());
+        assertThat(updated).isEqualTo(1);
+        Task moved = repository.findById(pending.getId()).orElseThrow();
+        assertThat(moved.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(moved.getVersion()).isEqualTo(pending.getVersion() + 1);
+        assertThat(repository.findById(completed.getId()).orElseThrow().getStatus())
+                .isEqualTo(TaskStatus.COMPLETED);
+        assertThat(repository.findById(notSelected.getId()).orElseThrow().getStatus())
+                .isEqualTo(TaskStatus.PENDING);
+    }
+
+    @Test
+    @Transactional
+    void updateAll_shouldCompleteEverythingDueBeforeCutoff() {
+        // Arrange
+        LocalDateTime cutoff = LocalDateTime.now();
+        Task overdue = newTask("Overdue", TaskStatus.IN_PROGRESS, cutoff.minusDays(2));
+        Task future = newTask("Future", TaskStatus.PENDING, cutoff.plusDays(2));
+        entityManager.clear();
+
+        // Act
+        int updated = repository.updateAll(new TaskBulkUpdate(null, cutoff, null, TaskStatus.COMPLETED, null));
+        entityManager.clear();
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        assertThat(repository.findById(overdue.getId()).orElseThrow().getStatus())
+                .isEqualTo(TaskStatus.COMPLETED);
+        assertThat(repository.findById(future.getId()).orElseThrow().getStatus())
+                .isEqualTo(TaskStatus.PENDING);
+    }
+
+    @Test
+    @Transactional
+    void insertAll_shouldLeaveEntitiesAsTheyWereWritten() {
+        // Arrange: insertAll reserves ids through SQLite's AUTOINCREMENT counter, stood in for here on H2
+        entityManager.createNativeQuery("CREATE TABLE IF NOT EXISTS sqlite_sequence (name VARCHAR(255), seq BIGINT)")
+                .executeUpdate();
+        Task first = unsavedTask("First");
+        Task second = unsavedTask("Second");
+
+        // Act
+        repository.insertAll(List.of(first, second));
+        entityManager.clear();
+
+        // Assert
+        assertThat(second.getId()).isEqualTo(first.getId() + 1);
+        for (Task inserted : List.of(first, second)) {
+            Task stored = repository.findById(inserted.getId()).orElseThrow();
+            assertThat(inserted.getVersion()).isZero().isEqualTo(stored.getVersion());
+            assertThat(inserted.getCreatedAt()).isNotNull().isEqualTo(stored.getCreatedAt());
+            assertThat(inserted.getUpdatedAt()).isEqualTo(inserted.getCreatedAt()).isEqualTo(stored.getUpdatedAt());
+        }
+    }
+
+    @Test
+    @Transactional
+    void deleteTasks_shouldReportAffectedRows() {
+        // Arrange
+        Task first = newTask("First", TaskStatus.PENDING, LocalDateTime.now());
+        Task second = newTask("Second", TaskStatus.PENDING, LocalDateTime.now());
+        entityManager.clear();
+
+        // Act
+        int deletedOne = repository.deleteTask(first.getId());
+        int deletedMissing = repository.deleteTask(first.getId());
+        List<Long> existing = repository.findExistingIds(List.of(first.getId(), second.getId(), Long.MAX_VALUE));
+        int deletedMany = repository.deleteTasks(List.of(second.getId(), Long.MAX_VALUE));
+
+        // Assert
+        assertThat(deletedOne).isEqualTo(1);
+        assertThat(deletedMissing).isZero();
+        assertThat(existing).containsExactly(second.getId());
+        assertThat(deletedMany).isEqualTo(1);
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    @Transactional
+    void findSlice_shouldApplyFilterAndDetectNextPageWithoutCounting() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Task first = newTask("First", TaskStatus.PENDING, now.plusDays(1));
+        Task second = newTask("Second", TaskStatus.IN_PROGRESS, now.plusDays(2));
+        newTask("Third", TaskStatus.PENDING, now.plusDays(3));
+        newTask("Done", TaskStatus.COMPLETED, now.plusDays(1));
+        entityManager.clear();
+        TaskFilter filter = new TaskFilter(
+                Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS), now.plusDays(3), null, null, null);
+
+        // Act
+        Slice<TaskResponse> slice = repository.findSlice(
+                filter.toSpecification(), PageRequest.of(0, 1, Sort.by("id")), TaskResponse.class);
+        Slice<TaskResponse> last = repository.findSlice(
+                filter.toSpecification(), PageRequest.of(1, 1, Sort.by("id")), TaskResponse.class);
+
+        // Assert
+        assertThat(slice.getContent()).extracting(TaskResponse::id).containsExactly(first.getId());
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(TaskResponse::id).containsExactly(second.getId());
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @Transactional
+    void findPage_shouldProjectIntoResponsesWithoutManagingEntities() {
+        // Arrange
+        Task saved = newTask("Projected", TaskStatus.PENDING, LocalDateTime.now().plusDays(1));
+        newTask("Other", TaskStatus.COMPLETED, LocalDateTime.now().plusDays(1));
+        entityManager.clear();
+
+        // Act
+        Page<TaskResponse> page = repository.findPage(null, PageRequest.of(0, 1, Sort.by("id")), TaskResponse.class);
+
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).singleElement().satisfies(task -> {
+            assertThat(task.id()).isEqualTo(saved.getId());
+            assertThat(task.version()).isEqualTo(saved.getVersion());
+            assertThat(task.title()).isEqualTo("Projected");
+            assertThat(task.status()).isEqualTo(TaskStatus.PENDING);
+            assertThat(task.createdAt()).isNotNull();
+        });
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @Transactional
+    void findAttributes_shouldSelectOnlyTheNamedAttributes() {
+        // Arrange
+        Task saved = newTask("Sparse", TaskStatus.IN_PROGRESS, LocalDateTime.now().plusDays(1));
+        newTask("Other", TaskStatus.PENDING, LocalDateTime.now().plusDays(2));
+        entityManager.clear();
+
+        // Act
+        Page<Map<String, Object>> page = repository.findAttributePage(
+                null, PageRequest.of(0, 1, Sort.by("id")), List.of("title", "id"));
+        Optional<Map<String, Object>> single = repository.findAttributesById(saved.getId(), List.of("status"));
+
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).containsExactly(Map.of("title", "Sparse", "id", saved.getId()));
+        assertThat(page.getContent().get(0).keySet()).containsExactly("title", "id");
+        assertThat(single).contains(Map.of("status", TaskStatus.IN_PROGRESS));
+        assertThat(repository.findAttributesById(Long.MAX_VALUE, List.of("id"))).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void forEach_shouldStreamMatchingRowsInOrderWithoutManagingEntities() {
+        // Arrange
+        Task first = newTask("First", TaskStatus.PENDING, LocalDateTime.now());
+        newTask("Done", TaskStatus.COMPLETED, LocalDateTime.now());
+        Task third = newTask("Third", TaskStatus.PENDING, LocalDateTime.now());
+        entityManager.clear();
+        TaskFilter pending = new TaskFilter(Set.of(TaskStatus.PENDING), null, null, null, null);
+        List<Long> seen = new ArrayList<>();
+
+        // Act
+        long count = repository.forEach(pending.toSpecification(), Sort.by("id"), TaskResponse.class, task -> {
+            seen.add(task.id());
+            assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        });
+
+        // Assert
+        assertThat(count).isEqualTo(2);
+        assertThat(seen).containsExactly(first.getId(), third.getId());
+    }
+
+    private static Task unsavedTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.now().plusDays(1));
+        return task;
+    }
+
+    private Task newTask(String title, TaskStatus status, LocalDateTime dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        return repository.saveAndFlush(task);
+    }
 }
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskSearchQueryTest {
+
+    @Test
+    void toMatchExpression_shouldQuoteEachTermAsPrefixQuery() {
+        assertThat(new TaskSearchQuery("  court   rep ").toMatchExpression()).isEqualTo("\"court\"* \"rep\"*");
+    }
+
+    @Test
+    void toMatchExpression_shouldNeutraliseFts5Syntax() {
+        assertThat(new TaskSearchQuery("title:\"x NEAR(y -").toMatchExpression())
+                .isEqualTo("\"title:\"\"x\"* \"NEAR(y\"*");
+    }
+
+    @Test
+    void shouldRejectQueriesWithoutSearchableTerms() {
+        assertThatThrownBy(() -> new TaskSearchQuery(" - * "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("q must contain at least one letter or digit");
+        assertThatThrownBy(() -> new TaskSearchQuery(" "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("q must not be blank");
+    }
+
+    @Test
+    void shouldRejectQueriesWithMoreThanTheMaximumNumberOfTerms() {
+        assertThat(new TaskSearchQuery("a b c d e f g h i j").toMatchExpression().split(" ")).hasSize(10);
+        assertThatThrownBy(() -> new TaskSearchQuery("a b c d e f g h i j k"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("q must have at most 10 terms");
+    }
+}
@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import uk.gov.hmcts.reform.dev.config.TaskCacheProperties;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCacheTest {
+
+    @Mock
+    private TaskRepository repository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskCache newCache() {
+        TaskCacheProperties properties = new TaskCacheProperties(100, Duration.ofMinutes(1),
+                new TaskCacheProperties.WarmUp(false, Duration.ofHours(1), 10));
+        return new TaskCache(properties, repository, meterRegistry);
+    }
+
+    private static Task task(long id, long version, String title) {
+        Task task = new Task();
+        task.setId(id);
+        ReflectionTestUtils.setField(task, "version", version);
+        task.setTitle(title);
+        return task;
+    }
+
+    @Test
+    void putIfFresh_shouldDropLoadsThatRacedAnInvalidation() {
+        TaskCache cache = newCache();
+        long epoch = cache.epoch();
+
+        cache.invalidate(1L);
+        cache.putIfFresh(task(1L, 0L, "stale"), epoch);
+
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @Test
+    void refresh_shouldRejectOlderVersions() {
+        TaskCache cache = newCache();
+        cache.refresh(task(1L, 2L, "newer"));
+
+        cache.refresh(task(1L, 1L, "older"));
+        cache.putIfFresh(task(1L, 1L, "older"), cache.epoch());
+
+        assertThat(cache.get(1L)).get().extracting(Task::getTitle).isEqualTo("newer");
+    }
+
+    @Test
+    void onTaskChanged_shouldInvalidateWhenNewStateIsUnknown() {
+        TaskCache cache = newCache();
+        cache.refresh(task(1L, 0L, "one"));
+        cache.refresh(task(2L, 0L, "two"));
+
+        cache.onTaskChanged(TaskChangedEvent.deleted(1L));
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.get(2L)).isPresent();
+
+        cache.onTaskChanged(TaskChangedEvent.updatedUnknown());
+        assertThat(cache.get(2L)).isEmpty();
+    }
+
+    @Test
+    void get_shouldRecordHitsAndMisses() {
+        TaskCache cache = newCache();
+        cache.refresh(task(1L, 0L, "one"));
+
+        cache.get(1L);
+        cache.get(2L);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,249 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.hmcts.reform.dev.config.TaskStreamProperties;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskChangeFeedTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskChangeFeed feed;
+
+    @AfterEach
+    void stopFeed() {
+        feed.stop();
+    }
+
+    @Test
+    void shouldSendCommittedChangesInOrderAfterTheOpeningHeartbeat() throws Exception {
+        startFeed(8, 8);
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(null, sink);
+        assertThat(sink.next()).isEqualTo("heartbeat");
+
+        feed.onTaskChanged(TaskChangedEvent.created(task(1L)));
+        feed.onTaskChanged(TaskChangedEvent.deleted(2L));
+
+        assertThat(sink.next()).isEqualTo("CREATED 1");
+        assertThat(sink.next()).isEqualTo("DELETED 2");
+    }
+
+    @Test
+    void shouldReplayEverythingAfterLastEventIdOnReconnect() throws Exception {
+        startFeed(8, 8);
+        RecordingSink first = new RecordingSink();
+        feed.subscribe(null, first);
+        first.next();
+        feed.onTaskChanged(TaskChangedEvent.created(task(1L)));
+        feed.onTaskChanged(TaskChangedEvent.created(task(2L)));
+        feed.onTaskChanged(TaskChangedEvent.created(task(3L)));
+        first.next();
+        String seen = first.lastEventId;
+
+        RecordingSink reconnected = new RecordingSink();
+        feed.subscribe(seen, reconnected);
+
+        assertThat(reconnected.next()).isEqualTo("CREATED 2");
+        assertThat(reconnected.next()).isEqualTo("CREATED 3");
+        assertThat(reconnected.next()).isEqualTo("heartbeat");
+    }
+
+    @Test
+    void shouldAskForAResyncWhenLastEventIdIsNoLongerRetained() throws Exception {
+        startFeed(2, 8);
+        RecordingSink first = new RecordingSink();
+        feed.subscribe(null, first);
+        first.next();
+        feed.onTaskChanged(TaskChangedEvent.created(task(1L)));
+        first.next();
+        long seen = first.lastSequence;
+        for (long id = 2; id <= 4; id++) {
+            feed.onTaskChanged(TaskChangedEvent.created(task(id)));
+        }
+
+        RecordingSink reconnected = new RecordingSink();
+        feed.subscribe(first.lastEventId, reconnected);
+
+        assertThat(reconnected.next()).isEqualTo("resync");
+        assertThat(reconnected.lastEventId).isEqualTo(feed.eventId(seen + 3));
+        RecordingSink unknown = new RecordingSink();
+        feed.subscribe("not-a-sequence", unknown);
+        assertThat(unknown.next()).isEqualTo("resync");
+        assertThat(meterRegistry.counter("tasks.stream.resyncs").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldReplayAGapLongerThanTheSubscriberBuffer() throws Exception {
+        startFeed(64, 4);
+        RecordingSink first = new RecordingSink();
+        feed.subscribe(null, first);
+        first.next();
+        feed.onTaskChanged(TaskChangedEvent.created(task(1L)));
+        first.next();
+        for (long id = 2; id <= 41; id++) {
+            feed.onTaskChanged(TaskChangedEvent.created(task(id)));
+        }
+
+        RecordingSink reconnected = new RecordingSink();
+        feed.subscribe(first.lastEventId, reconnected);
+        feed.onTaskChanged(TaskChangedEvent.created(task(42L)));
+
+        for (long id = 2; id <= 42; id++) {
+            String next = reconnected.next();
+            if ("heartbeat".equals(next)) {
+                next = reconnected.next();
+            }
+            assertThat(next).isEqualTo("CREATED " + id);
+        }
+        assertThat(meterRegistry.counter("tasks.stream.resyncs").count()).isZero();
+    }
+
+    @Test
+    void shouldResyncAnIdFromAnotherFeedEpoch() throws Exception {
+        startFeed(8, 8);
+        RecordingSink first = new RecordingSink();
+        feed.subscribe(null, first);
+        first.next();
+        feed.onTaskChanged(TaskChangedEvent.created(task(1L)));
+        first.next();
+        String seen = first.lastEventId;
+        feed.stop();
+
+        // A restarted feed numbers its events from the start again, so only the epoch tells the ids apart
+        startFeed(8, 8);
+        feed.onTaskChanged(TaskChangedEvent.created(task(2L)));
+        feed.onTaskChanged(TaskChangedEvent.created(task(3L)));
+        RecordingSink reconnected = new RecordingSink();
+        feed.subscribe(seen, reconnected);
+
+        assertThat(reconnected.next()).isEqualTo("resync");
+        assertThat(reconnected.lastEventId).isEqualTo(feed.eventId(2));
+    }
+
+    @Test
+    void shouldDropTheBacklogOfASlowSubscriberAndResyncIt() throws Exception {
+        startFeed(16, 2);
+        CountDownLatch released = new CountDownLatch(1);
+        RecordingSink sink = new RecordingSink(released);
+        feed.subscribe(null, sink);
+        assertThat(sink.next()).isEqualTo("heartbeat");
+
+        feed.onTaskChanged(TaskChangedEvent.created(task(1L)));
+        assertThat(sink.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        // The first send is stuck, so the next two fill the queue and the fourth overflows it
+        for (long id = 2; id <= 5; id++) {
+            feed.onTaskChanged(TaskChangedEvent.created(task(id)));
+        }
+        released.countDown();
+
+        assertThat(sink.next()).isEqualTo("CREATED 1");
+        long first = sink.lastSequence;
+        assertThat(sink.next()).isEqualTo("resync");
+        assertThat(sink.lastEventId).isEqualTo(feed.eventId(first + 3));
+        assertThat(sink.next()).isEqualTo("CREATED 5");
+    }
+
+    @Test
+    void shouldResyncWhenTheChangedTasksAreNotKnown() throws Exception {
+        startFeed(8, 8);
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(null, sink);
+        sink.next();
+
+        feed.onTaskChanged(TaskChangedEvent.updatedUnknown());
+
+        assertThat(sink.next()).isEqualTo("resync");
+    }
+
+    @Test
+    void shouldStopSendingAndCloseTheSinkWhenCancelled() throws Exception {
+        startFeed(8, 8);
+        RecordingSink sink = new RecordingSink();
+        TaskChangeFeed.Subscription subscription = feed.subscribe(null, sink);
+        sink.next();
+
+        subscription.cancel();
+        feed.onTaskChanged(TaskChangedEvent.created(task(1L)));
+
+        assertThat(sink.next()).isEqualTo("closed");
+        assertThat(sink.events.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private void startFeed(int replaySize, int subscriberBuffer) {
+        feed = new TaskChangeFeed(new TaskStreamProperties(replaySize, subscriberBuffer, Duration.ofHours(1)),
+                meterRegistry);
+        feed.start();
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        return task;
+    }
+
+    private static final class RecordingSink implements TaskChangeFeed.Sink {
+
+        private final BlockingQueue<Recorded> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch released;
+        private long lastSequence;
+        private String lastEventId;
+
+        RecordingSink() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingSink(CountDownLatch released) {
+            this.released = released;
+        }
+
+        String next() throws InterruptedException {
+            Recorded event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("no stream event within 5s").isNotNull();
+            lastSequence = event.sequence();
+            lastEventId = event.eventId();
+            return event.text();
+        }
+
+        @Override
+        public void send(String eventId, TaskStreamEvent event) {
+            sending.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(new Recorded(event.type() + " " + event.id(), event.sequence(), eventId));
+        }
+
+        @Override
+        public void resync(String eventId) {
+            events.add(new Recorded("resync", -1, eventId));
+        }
+
+        @Override
+        public void heartbeat() {
+            events.add(new Recorded("heartbeat", -1, null));
+        }
+
+        @Override
+        public void close() {
+            events.add(new Recorded("closed", -1, null));
+        }
+    }
+
+    private record Recorded(String text, long sequence, String eventId) {
+    }
+}
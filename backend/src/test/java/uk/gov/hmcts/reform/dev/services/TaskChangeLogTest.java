@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import uk.gov.hmcts.reform.dev.config.TaskChangeLogProperties;
+import uk.gov.hmcts.reform.dev.exceptions.TaskChangesExpiredException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskChange;
+import uk.gov.hmcts.reform.dev.models.TaskChangeType;
+import uk.gov.hmcts.reform.dev.repository.TaskChangeRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskChangeLogTest {
+
+    @Mock
+    private TaskChangeRepository changeRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskWriteCoordinator writeCoordinator;
+
+    private TaskChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        given(writeCoordinator.execute(any())).willAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+        changeLog = new TaskChangeLog(changeRepository, taskRepository, writeCoordinator,
+                new TaskChangeLogProperties(Duration.ofMinutes(10), 100, Duration.ofDays(30)));
+    }
+
+    @Test
+    void getChanges_shouldAttachCurrentStateToLiveTasksOnly() {
+        Pageable pageable = PageRequest.of(0, 3);
+        Slice<TaskChange> changes = new SliceImpl<>(List.of(
+                new TaskChange(11L, 1L, TaskChangeType.CREATED, 0L, 1L),
+                new TaskChange(12L, 2L, TaskChangeType.DELETED, 4L, 1L),
+                new TaskChange(13L, 1L, TaskChangeType.UPDATED, 1L, 1L)), pageable, true);
+        Task task = new Task();
+        task.setId(1L);
+        given(changeRepository.findBySeqGreaterThan(eq(10L), any())).willReturn(changes);
+        given(taskRepository.findAllById(List.of(1L))).willReturn(List.of(task));
+
+        Slice<TaskChangeResult> result = changeLog.getChanges(10L, 3);
+
+        assertThat(result.getContent()).extracting(TaskChangeResult::task).containsExactly(task, null, task);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void getChanges_shouldRefuseASinceBehindPurgedTombstones() {
+        given(changeRepository.findPurgedThrough()).willReturn(50L);
+
+        assertThatThrownBy(() -> changeLog.getChanges(49L, 10))
+                .isInstanceOf(TaskChangesExpiredException.class)
+                .hasMessage("Changes after 49 are no longer available, sync again from 0");
+        verify(changeRepository, never()).findBySeqGreaterThan(anyLong(), any());
+    }
+
+    @Test
+    void getChanges_shouldServeAFullSyncFromZeroWhateverHasBeenPurged() {
+        Pageable pageable = PageRequest.of(0, 10);
+        given(changeRepository.findPurgedThrough()).willReturn(50L);
+        given(changeRepository.findBySeqGreaterThan(eq(0L), any())).willReturn(new SliceImpl<>(List.of(
+                new TaskChange(60L, 3L, TaskChangeType.DELETED, 2L, 1L)), pageable, false));
+        given(taskRepository.findAllById(List.of())).willReturn(List.of());
+
+        Slice<TaskChangeResult> result = changeLog.getChanges(0L, 10);
+
+        assertThat(result.getContent()).extracting(TaskChangeResult::task).containsExactly((Task) null);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void compact_shouldWalkTheLogInBatchesFromTheLastCompactedSeq() {
+        given(changeRepository.findCompactedThrough()).willReturn(40L);
+        given(changeRepository.findLatestSeq()).willReturn(250L);
+        given(changeRepository.deleteSuperseded(anyLong(), anyLong())).willReturn(5);
+
+        int removed = changeLog.compact();
+
+        verify(changeRepository).deleteSuperseded(40L, 140L);
+        verify(changeRepository).deleteSuperseded(140L, 240L);
+        verify(changeRepository).deleteSuperseded(240L, 250L);
+        verify(changeRepository).markCompactedThrough(250L);
+        assertThat(removed).isEqualTo(15);
+    }
+
+    @Test
+    void compact_shouldPurgeExpiredTombstonesUntilABatchComesBackShort() {
+        given(changeRepository.deleteTombstones(anyLong(), anyInt())).willReturn(100, 100, 7);
+
+        int removed = changeLog.compact();
+
+        verify(changeRepository, times(3)).markPurgedThrough(anyLong(), eq(100));
+        assertThat(removed).isEqualTo(207);
+    }
+}
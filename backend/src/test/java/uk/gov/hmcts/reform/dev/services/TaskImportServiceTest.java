@@ -0,0 +1,197 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import uk.gov.hmcts.reform.dev.config.TaskImportProperties;
+import uk.gov.hmcts.reform.dev.exceptions.InvalidTaskStateException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskImport;
+import uk.gov.hmcts.reform.dev.models.TaskImportStatus;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskImportRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskImportServiceTest {
+
+    private static final Long IMPORT_ID = 3L;
+
+    @Mock
+    private TaskImportRepository importRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskWriteCoordinator writeCoordinator;
+
+    @Mock
+    private TaskWriteQueue writeQueue;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskImportService service;
+
+    @BeforeEach
+    void setUp() {
+        given(writeCoordinator.execute(any())).willAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+        given(writeQueue.submit(any())).willAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+        given(importRepository.advance(eq(IMPORT_ID), anyLong(), anyLong(), anyLong(), anyLong(), any(), any()))
+                .willReturn(1);
+        service = new TaskImportService(importRepository, taskRepository, writeCoordinator, writeQueue,
+                eventPublisher, new TaskImportProperties(2, 1));
+    }
+
+    @Test
+    void runImport_shouldCommitChunksWithTheirCheckpointAndReportRejections() {
+        given(importRepository.findById(IMPORT_ID)).willReturn(Optional.of(taskImport(0)));
+        List<TaskImportRow> rows = List.of(valid(1), TaskImportRow.rejected(2, "Invalid JSON"), invalid(3),
+                valid(4), valid(5));
+
+        TaskImportResult result = service.runImport(IMPORT_ID, rows.iterator());
+
+        verify(importRepository).advance(eq(IMPORT_ID), eq(0L), eq(2L), eq(1L), eq(1L), any(), any());
+        verify(importRepository).advance(eq(IMPORT_ID), eq(2L), eq(2L), eq(1L), eq(1L), any(), any());
+        verify(importRepository).advance(eq(IMPORT_ID), eq(4L), eq(1L), eq(1L), eq(0L), any(), any());
+        verify(taskRepository, times(3)).insertAll(any());
+        verify(eventPublisher, times(3)).publishEvent(any(TaskChangedEvent.class));
+        verify(importRepository).updateStatus(eq(IMPORT_ID), eq(TaskImportStatus.COMPLETED), isNull(), any());
+        // Capped at tasks.import.max-reported-rejections
+        assertThat(result.rejections()).extracting(TaskImportRow::number).containsExactly(2L);
+    }
+
+    @Test
+    void runImport_shouldValidateWithTheCreateTaskRules() {
+        given(importRepository.findById(IMPORT_ID)).willReturn(Optional.of(taskImport(0)));
+        List<Task> inserted = new ArrayList<>();
+        willAnswer(invocation -> inserted.addAll(invocation.getArgument(0)))
+                .given(taskRepository).insertAll(any());
+
+        TaskImportResult result = service.runImport(IMPORT_ID, List.of(invalid(1), valid(2)).iterator());
+
+        assertThat(inserted).extracting(Task::getTitle).containsExactly("Task 2");
+        assertThat(result.rejections()).extracting(TaskImportRow::error)
+                .containsExactly("Task title must not be null or empty");
+    }
+
+    @Test
+    void runImport_shouldSkipRowsUpToTheCheckpointWhenResumed() {
+        given(importRepository.findById(IMPORT_ID)).willReturn(Optional.of(taskImport(4)));
+        List<TaskImportRow> rows = LongStream.rangeClosed(1, 5).mapToObj(TaskImportServiceTest::valid).toList();
+
+        service.runImport(IMPORT_ID, rows.iterator());
+
+        verify(importRepository).advance(eq(IMPORT_ID), eq(4L), eq(1L), eq(1L), eq(0L), any(), any());
+        verify(taskRepository, times(1)).insertAll(any());
+    }
+
+    @Test
+    void runImport_shouldMarkTheImportFailedAndKeepTheCheckpointWhenReadingBreaks() {
+        given(importRepository.findById(IMPORT_ID)).willReturn(Optional.of(taskImport(0)));
+        List<TaskImportRow> rows = List.of(valid(1), valid(2));
+        Iterator<TaskImportRow> breaking = new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == rows.size()) {
+                    throw new IllegalArgumentException("Row 3 is longer than 65536 characters");
+                }
+                return true;
+            }
+
+            @Override
+            public TaskImportRow next() {
+                return rows.get(next++);
+            }
+        };
+
+        assertThatThrownBy(() -> service.runImport(IMPORT_ID, breaking))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(importRepository).advance(eq(IMPORT_ID), eq(0L), eq(2L), eq(2L), eq(0L), any(), any());
+        verify(importRepository).updateStatus(eq(IMPORT_ID), eq(TaskImportStatus.FAILED),
+                eq("Row 3 is longer than 65536 characters"), any());
+    }
+
+    @Test
+    void runImport_shouldRejectAnUploadThatLostTheCheckpointRace() {
+        given(importRepository.findById(IMPORT_ID)).willReturn(Optional.of(taskImport(0)));
+        given(importRepository.advance(eq(IMPORT_ID), anyLong(), anyLong(), anyLong(), anyLong(), any(), any()))
+                .willReturn(0);
+
+        assertThatThrownBy(() -> service.runImport(IMPORT_ID, List.of(valid(1)).iterator()))
+                .isInstanceOf(InvalidTaskStateException.class);
+
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+        verify(importRepository, never()).updateStatus(any(), eq(TaskImportStatus.FAILED), any(), any());
+    }
+
+    @Test
+    void runImport_shouldRefuseACompletedImport() {
+        TaskImport completed = taskImport(5);
+        ReflectionTestUtils.setField(completed, "status", TaskImportStatus.COMPLETED);
+        given(importRepository.findById(IMPORT_ID)).willReturn(Optional.of(completed));
+
+        assertThatThrownBy(() -> service.runImport(IMPORT_ID, List.of(valid(1)).iterator()))
+                .isInstanceOf(InvalidTaskStateException.class);
+
+        verify(writeQueue, never()).submit(any());
+    }
+
+    private static TaskImport taskImport(long rowsCommitted) {
+        TaskImport taskImport = new TaskImport();
+        ReflectionTestUtils.setField(taskImport, "id", IMPORT_ID);
+        ReflectionTestUtils.setField(taskImport, "rowsCommitted", rowsCommitted);
+        return taskImport;
+    }
+
+    private static TaskImportRow valid(long number) {
+        Task task = new Task();
+        task.setTitle("Task " + number);
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.of(2030, 1, 1, 10, 0));
+        return TaskImportRow.parsed(number, task);
+    }
+
+    private static TaskImportRow invalid(long number) {
+        Task task = new Task();
+        task.setTitle(" ");
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueDate(LocalDateTime.of(2030, 1, 1, 10, 0));
+        return TaskImportRow.parsed(number, task);
+    }
+}
@@ -2,30 +2,54 @@ package uk.gov.hmcts.reform.dev.services;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import uk.gov.hmcts.reform.dev.api.TaskResponse;
 import uk.gov.hmcts.reform.dev.models.Task;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskStatusCount;
+import uk.gov.hmcts.reform.dev.repository.TaskBulkUpdate;
+import uk.gov.hmcts.reform.dev.repository.TaskFilter;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSearchHit;
+import uk.gov.hmcts.reform.dev.repository.TaskSearchQuery;
+import uk.gov.hmcts.reform.dev.repository.TaskStatusCountRepository;
 
 import uk.gov.hmcts.reform.dev.exceptions.InvalidTaskStateException;
 import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 class TaskServiceTest {
@@ -33,6 +57,15 @@ class TaskServiceTest {
     @Mock
     private TaskRepository repository;
 
+    @Mock
+    private TaskStatusCountRepository statusCountRepository;
+
+    @Mock
+    private TaskCache taskCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService service;
 
@@ -54,6 +87,55 @@ class TaskServiceTest {
         assertThat(result.getTitle()).isEqualTo("Test Task");
     }
 
+    @Test
+    void getTaskById_shouldServeCachedTaskWithoutQuery() {
+        Task task = new Task();
+        task.setId(1L);
+        given(taskCache.get(1L)).willReturn(Optional.of(task));
+
+        assertThat(service.getTaskById(1L)).containsSame(task);
+        verify(repository, never()).findById(1L);
+    }
+
+    @Test
+    void getTaskById_shouldPopulateCacheWithLoadEpochOnMiss() {
+        Task task = new Task();
+        task.setId(1L);
+        given(taskCache.epoch()).willReturn(3L);
+        given(repository.findById(1L)).willReturn(Optional.of(task));
+
+        service.getTaskById(1L);
+
+        verify(taskCache).putIfFresh(task, 3L);
+    }
+
+    @Test
+    void getTaskVersion_shouldPreferCachedTaskOverQuery() {
+        Task task = new Task();
+        task.setId(1L);
+        given(taskCache.get(1L)).willReturn(Optional.of(task));
+
+        service.getTaskVersion(1L);
+
+        verify(repository, never()).findVersionById(1L);
+    }
+
+    @Test
+    void getTaskVersion_shouldQueryVersionOnCacheMiss() {
+        given(repository.findVersionById(1L)).willReturn(Optional.of(2L));
+
+        assertThat(service.getTaskVersion(1L)).contains(2L);
+    }
+
+    @Test
+    void getCollectionVersion_shouldAdvanceAfterEveryChange() {
+        TaskCollectionVersion before = service.getCollectionVersion();
+
+        service.onTaskChanged(TaskChangedEvent.deleted(1L));
+
+        assertThat(service.getCollectionVersion().writeGeneration()).isGreaterThan(before.writeGeneration());
+    }
+
     @Test
     void createTask_shouldSaveTask() {
         Task task = new Task();
@@ -114,70 +196,204 @@ class TaskServiceTest {
     }
 
     @Test
-    void getAllTasks_shouldReturnAllTasks() {
-        Task task1 = new Task();
-        Task task2 = new Task();
-        Pageable pageable = PageRequest.of(0, 20);
-        Page<Task> page = new PageImpl<>(List.of(task1, task2), pageable, 2);
-        given(repository.findAll(pageable)).willReturn(page);
-
-        Page<Task> tasks = service.getAllTasks(pageable);
+    void createTasks_shouldInsertValidTasksAndReportRejectedOnes() {
+        Task valid = new Task();
+        valid.setTitle("Valid");
+        valid.setStatus(TaskStatus.PENDING);
+        valid.setDueDate(LocalDateTime.now().plusDays(1));
+
+        Task missingStatus = new Task();
+        missingStatus.setTitle("No status");
+        missingStatus.setDueDate(LocalDateTime.now().plusDays(1));
+
+        List<TaskBatchResult> results = service.createTasks(List.of(valid, missingStatus));
+
+        verify(repository).insertAll(List.of(valid));
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).isCreated()).isTrue();
+        assertThat(results.get(0).task()).isSameAs(valid);
+        assertThat(results.get(1).isCreated()).isFalse();
+        assertThat(results.get(1).index()).isEqualTo(1);
+        assertThat(results.get(1).error()).isEqualTo("Task status must not be null");
+    }
 
-        assertThat(tasks.getTotalElements()).isEqualTo(2);
-        assertThat(tasks.getContent()).containsExactly(task1, task2);
+    @Test
+    void createTasks_shouldThrowWhenListIsNull() {
+        assertThatThrownBy(() -> service.createTasks(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Tasks must not be null");
     }
 
     @Test
-    void getAllTasks_shouldReturnPagedTasks() {
-        Task task1 = new Task();
-        Task task2 = new Task();
+    void getAllTasks_shouldProjectPageWithoutFilter() {
+        TaskResponse task1 = response(1L);
+        TaskResponse task2 = response(2L);
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Task> page = new PageImpl<>(List.of(task1, task2), pageable, 2);
+        Page<TaskResponse> page = new PageImpl<>(List.of(task1, task2), pageable, 2);
+        given(repository.findPage(any(), eq(pageable), eq(TaskResponse.class))).willReturn(page);
 
-        given(repository.findAll(pageable)).willReturn(page);
-
-        Page<Task> result = service.getAllTasks(pageable);
+        Page<TaskResponse> result = service.getAllTasks(TaskFilter.NONE, pageable, TaskResponse.class);
 
         assertThat(result.getTotalElements()).isEqualTo(2);
         assertThat(result.getContent()).containsExactly(task1, task2);
+        verify(repository, never()).findAll(any(Pageable.class));
     }
 
     @Test
     void getAllTasks_shouldThrowWhenPageableIsNull() {
-        assertThatThrownBy(() -> service.getAllTasks(null))
+        assertThatThrownBy(() -> service.getAllTasks(TaskFilter.NONE, null, TaskResponse.class))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Pageable must not be null");
     }
 
     @Test
-    void updateTask_shouldSaveAndReturnTask() {
+    void getTaskSlice_shouldUseCountFreeQuery() {
+        TaskResponse task = response(1L);
+        Pageable pageable = PageRequest.of(0, 1);
+        given(repository.findSlice(any(), eq(pageable), eq(TaskResponse.class)))
+                .willReturn(new SliceImpl<>(List.of(task), pageable, true));
+
+        Slice<TaskResponse> result = service.getTaskSlice(TaskFilter.NONE, pageable, TaskResponse.class);
+
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).containsExactly(task);
+        verify(repository, never()).count();
+    }
+
+    @Test
+    void getTaskSlice_shouldPassFilterSpecification() {
+        Pageable pageable = PageRequest.of(0, 1);
+        TaskFilter filter = new TaskFilter(Set.of(TaskStatus.PENDING), null, null, null, null);
+        given(repository.findSlice(ArgumentMatchers.<Specification<Task>>notNull(), eq(pageable),
+                eq(TaskResponse.class)))
+                .willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        Slice<TaskResponse> result = service.getTaskSlice(filter, pageable, TaskResponse.class);
+
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void countTasks_shouldTotalMaintainedCountsForStatusFilter() {
+        given(statusCountRepository.findAll()).willReturn(List.of(
+                new TaskStatusCount(TaskStatus.PENDING, 4),
+                new TaskStatusCount(TaskStatus.IN_PROGRESS, 1),
+                new TaskStatusCount(TaskStatus.COMPLETED, 2)));
+
+        TaskFilter filter = new TaskFilter(Set.of(TaskStatus.PENDING, TaskStatus.COMPLETED), null, null, null, null);
+
+        assertThat(service.countTasks(filter)).isEqualTo(6L);
+    }
+
+    @Test
+    void countTasks_shouldRejectNonStatusFilters() {
+        TaskFilter filter = new TaskFilter(null, LocalDateTime.now(), null, null, null);
+
+        assertThatThrownBy(() -> service.countTasks(filter))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("count=maintained");
+    }
+
+    @Test
+    void searchTasks_shouldKeepRankOrderAndSkipTasksDeletedSinceIndexing() {
+        Pageable pageable = PageRequest.of(0, 3);
+        TaskSearchQuery query = new TaskSearchQuery("court");
+        Task best = new Task();
+        best.setId(7L);
+        Task second = new Task();
+        second.setId(2L);
+        given(repository.search(query, pageable)).willReturn(new SliceImpl<>(List.of(
+                new TaskSearchHit(7L, "title 7", null),
+                new TaskSearchHit(9L, "title 9", null),
+                new TaskSearchHit(2L, "title 2", "snippet 2")), pageable, true));
+        given(repository.findAllById(List.of(7L, 9L, 2L))).willReturn(List.of(second, best));
+
+        Slice<TaskSearchResult> result = service.searchTasks(query, pageable);
+
+        assertThat(result.getContent()).extracting(TaskSearchResult::task).containsExactly(best, second);
+        assertThat(result.getContent()).extracting(TaskSearchResult::snippet).containsExactly(null, "snippet 2");
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void searchTasks_shouldNotLoadTasksWhenNothingMatches() {
+        Pageable pageable = PageRequest.of(0, 3);
+        TaskSearchQuery query = new TaskSearchQuery("nothing");
+        given(repository.search(query, pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        assertThat(service.searchTasks(query, pageable)).isEmpty();
+        verify(repository, never()).findAllById(any());
+    }
+
+    @Test
+    void getTaskCounts_shouldReportZeroForStatusesWithoutRows() {
+        given(statusCountRepository.findAll()).willReturn(List.of(
+                new TaskStatusCount(TaskStatus.PENDING, 4),
+                new TaskStatusCount(TaskStatus.COMPLETED, 2)));
+
+        Map<TaskStatus, Long> counts = service.getTaskCounts();
+
+        assertThat(counts)
+                .containsEntry(TaskStatus.PENDING, 4L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 0L)
+                .containsEntry(TaskStatus.COMPLETED, 2L);
+        assertThat(service.countTasks()).isEqualTo(6L);
+    }
+
+    @Test
+    void scrollTasks_shouldDelegateToRepository() {
+        Task task = new Task();
+        Window<Task> window = Window.from(List.of(task), i -> ScrollPosition.offset(i), false);
+        given(repository.findBy(ArgumentMatchers.<Specification<Task>>any(), any())).willReturn(window);
+
+        Window<Task> result = service.scrollTasks(TaskFilter.NONE, ScrollPosition.keyset(), Sort.by("id"), 20);
+
+        assertThat(result.getContent()).containsExactly(task);
+    }
+
+    @Test
+    void exportTasks_shouldStreamInIdOrder() {
+        Consumer<TaskResponse> sink = task -> { };
+        given(repository.forEach(any(), eq(Sort.by("id")), eq(TaskResponse.class), eq(sink))).willReturn(3L);
+
+        assertThat(service.exportTasks(TaskFilter.NONE, TaskResponse.class, sink)).isEqualTo(3L);
+    }
+
+    @Test
+    void scrollTasks_shouldThrowWhenLimitIsNotPositive() {
+        assertThatThrownBy(() -> service.scrollTasks(TaskFilter.NONE, ScrollPosition.keyset(), Sort.by("id"), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Limit must be >= 1");
+    }
+
+    @Test
+    void updateTask_shouldPatchAndReturnTask() {
         Task task = new Task();
         task.setId(1L);
         task.setTitle("Original");
-        given(repository.findById(1L)).willReturn(Optional.of(task));
-        given(repository.save(task)).willReturn(task);
+        given(repository.patch(any(Task.class), any())).willReturn(Optional.of(task));
 
         Task updated = service.updateTask(task);
 
         assertThat(updated).isEqualTo(task);
+        verify(repository, never()).findById(1L);
+        verify(repository, never()).save(any(Task.class));
     }
 
     @Test
     void updateTask_shouldUpdateDescriptionOnly() {
         // Arrange
-        Task existingTask = new Task();
-        existingTask.setId(1L);
-        existingTask.setTitle("Original Title");
-        existingTask.setDescription("Original Description");
-        existingTask.setStatus(TaskStatus.PENDING);
-        existingTask.setDueDate(LocalDateTime.now().plusDays(1));
+        Task patchedTask = new Task();
+        patchedTask.setId(1L);
+        patchedTask.setTitle("Original Title");
+        patchedTask.setDescription("Updated Description");
+        patchedTask.setStatus(TaskStatus.PENDING);
 
         Task updatedTask = new Task();
         updatedTask.setId(1L);
         updatedTask.setDescription("Updated Description"); // only description changes
 
-        given(repository.findById(1L)).willReturn(Optional.of(existingTask));
-        given(repository.save(existingTask)).willReturn(existingTask);
+        given(repository.patch(any(Task.class), any())).willReturn(Optional.of(patchedTask));
 
         // Act
         Task result = service.updateTask(updatedTask);
@@ -186,70 +402,56 @@ class TaskServiceTest {
         assertThat(result.getTitle()).isEqualTo("Original Title");
         assertThat(result.getDescription()).isEqualTo("Updated Description");
         assertThat(result.getStatus()).isEqualTo(TaskStatus.PENDING);
-        verify(repository).save(existingTask);
+        verify(repository).patch(argThat(changes -> changes.getId() == 1L
+                && "Updated Description".equals(changes.getDescription())
+                && changes.getTitle() == null
+                && changes.getStatus() == null
+                && changes.getDueDate() == null), isNull());
     }
 
     @Test
     void updateTask_shouldKeepDescriptionWhenNotProvided() {
-        Task existingTask = new Task();
-        existingTask.setId(4L);
-        existingTask.setTitle("Original Title");
-        existingTask.setDescription("Keep Description");
-        existingTask.setStatus(TaskStatus.PENDING);
-        existingTask.setDueDate(LocalDateTime.now().plusDays(1));
-
         Task updatedTask = new Task();
         updatedTask.setId(4L);
         updatedTask.setTitle("Updated Title");
         updatedTask.setDescription(null);
 
-        given(repository.findById(4L)).willReturn(Optional.of(existingTask));
-        given(repository.save(existingTask)).willReturn(existingTask);
+        given(repository.patch(any(Task.class), any())).willReturn(Optional.of(updatedTask));
 
-        Task result = service.updateTask(updatedTask);
+        service.updateTask(updatedTask);
 
-        assertThat(result.getTitle()).isEqualTo("Updated Title");
-        assertThat(result.getDescription()).isEqualTo("Keep Description");
+        verify(repository).patch(argThat(changes -> "Updated Title".equals(changes.getTitle())
+                && changes.getDescription() == null), isNull());
     }
 
     @Test
     void updateTask_shouldNotOverwriteTitleWithEmptyString() {
         // Arrange
-        Task existingTask = new Task();
-        existingTask.setId(2L);
-        existingTask.setTitle("Keep This Title");
-        existingTask.setDescription("Description");
-
         Task updatedTask = new Task();
         updatedTask.setId(2L);
         updatedTask.setTitle(""); // invalid, should not overwrite
+        updatedTask.setDescription("Description");
 
-        given(repository.findById(2L)).willReturn(Optional.of(existingTask));
-        given(repository.save(existingTask)).willReturn(existingTask);
+        given(repository.patch(any(Task.class), any())).willReturn(Optional.of(new Task()));
 
         // Act
-        Task result = service.updateTask(updatedTask);
+        service.updateTask(updatedTask);
 
         // Assert
-        assertThat(result.getTitle()).isEqualTo("Keep This Title");
+        verify(repository).patch(argThat(changes -> changes.getTitle() == null
+                && "Description".equals(changes.getDescription())), isNull());
     }
 
     @Test
     void updateTask_shouldUpdateStatusAndDueDate() {
         // Arrange
-        Task existingTask = new Task();
-        existingTask.setId(3L);
-        existingTask.setStatus(TaskStatus.PENDING);
-        existingTask.setDueDate(LocalDateTime.now().plusDays(3));
-
         Task updatedTask = new Task();
         updatedTask.setId(3L);
         updatedTask.setStatus(TaskStatus.COMPLETED);
         LocalDateTime newDueDate = LocalDateTime.now().plusDays(10);
         updatedTask.setDueDate(newDueDate);
 
-        given(repository.findById(3L)).willReturn(Optional.of(existingTask));
-        given(repository.save(existingTask)).willReturn(existingTask);
+        given(repository.patch(any(Task.class), any())).willReturn(Optional.of(updatedTask));
 
         // Act
         Task result = service.updateTask(updatedTask);
@@ -257,6 +459,8 @@ class TaskServiceTest {
         // Assert
         assertThat(result.getStatus()).isEqualTo(TaskStatus.COMPLETED);
         assertThat(result.getDueDate()).isEqualTo(newDueDate);
+        verify(repository).patch(argThat(changes -> changes.getStatus() == TaskStatus.COMPLETED
+                && newDueDate.equals(changes.getDueDate())), isNull());
     }
 
     @Test
@@ -264,7 +468,8 @@ class TaskServiceTest {
         Task updatedTask = new Task();
         updatedTask.setId(999L);
 
-        given(repository.findById(999L)).willReturn(Optional.empty());
+        given(repository.patch(any(Task.class), any())).willReturn(Optional.empty());
+        given(repository.findVersionById(999L)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.updateTask(updatedTask))
                 .isInstanceOf(TaskNotFoundException.class)
@@ -273,29 +478,127 @@ class TaskServiceTest {
 
     @Test
     void updateTask_shouldThrowInvalidTaskStateWhenReopeningCompletedTask() {
-        Task existing = new Task();
-        existing.setId(1L);
-        existing.setTitle("Done task");
-        existing.setStatus(TaskStatus.COMPLETED);
-        existing.setDueDate(LocalDateTime.now().plusDays(1));
-
         Task update = new Task();
         update.setId(1L);
         update.setStatus(TaskStatus.IN_PROGRESS);
 
-        given(repository.findById(1L)).willReturn(Optional.of(existing));
+        given(repository.patch(any(Task.class), any())).willReturn(Optional.empty());
+        given(repository.findVersionById(1L)).willReturn(Optional.of(2L));
 
         assertThatThrownBy(() -> service.updateTask(update))
                 .isInstanceOf(InvalidTaskStateException.class)
                 .hasMessageContaining("Cannot move task from COMPLETED");
     }
 
+    @Test
+    void updateTask_shouldThrowVersionMismatchWhenIfMatchVersionIsStale() {
+        Task update = new Task();
+        update.setId(1L);
+        update.setTitle("Updated");
+
+        given(repository.patch(any(Task.class), eq(3L))).willReturn(Optional.empty());
+        given(repository.findVersionById(1L)).willReturn(Optional.of(4L));
+
+        assertThatThrownBy(() -> service.updateTask(update, 3L))
+                .isInstanceOf(TaskVersionMismatchException.class);
+    }
+
+    @Test
+    void deleteTask_shouldDeleteOnlyTheExpectedVersion() {
+        given(repository.deleteTask(1L, 3L)).willReturn(0);
+        given(repository.findVersionById(1L)).willReturn(Optional.of(4L));
+
+        assertThatThrownBy(() -> service.deleteTask(1L, 3L))
+                .isInstanceOf(TaskVersionMismatchException.class);
+        verify(repository, never()).deleteTask(1L);
+    }
+
+    @Test
+    void bulkUpdateTasks_shouldDelegateSingleStatementUpdate() {
+        TaskBulkUpdate update = new TaskBulkUpdate(List.of(1L, 2L), null, null, TaskStatus.IN_PROGRESS, null);
+        given(repository.findUpdatableIds(update)).willReturn(List.of(1L, 2L));
+        given(repository.updateAll(update)).willReturn(2);
+
+        assertThat(service.bulkUpdateTasks(update)).isEqualTo(2);
+    }
+
+    @Test
+    void bulkUpdateTasks_shouldPublishOnlyForTasksThatChanged() {
+        TaskBulkUpdate update = new TaskBulkUpdate(List.of(1L, 2L, 3L), null, null, TaskStatus.IN_PROGRESS, null);
+        given(repository.findUpdatableIds(update)).willReturn(List.of(2L));
+        given(repository.updateAll(update)).willReturn(1);
+
+        service.bulkUpdateTasks(update);
+
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updated(2L));
+        verify(eventPublisher, never()).publishEvent(TaskChangedEvent.updated(1L));
+        verify(eventPublisher, never()).publishEvent(TaskChangedEvent.updated(3L));
+    }
+
+    @Test
+    void bulkUpdateTasks_shouldSkipTheUpdateWhenNothingWouldChange() {
+        TaskBulkUpdate update = new TaskBulkUpdate(List.of(1L), null, null, TaskStatus.IN_PROGRESS, null);
+
+        assertThat(service.bulkUpdateTasks(update)).isZero();
+        verify(repository, never()).updateAll(update);
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void updateTask_shouldPublishUpdatedTask() {
+        Task update = new Task();
+        update.setId(5L);
+        update.setTitle("Updated");
+        Task patched = new Task();
+        patched.setId(5L);
+        given(repository.patch(any(Task.class), any())).willReturn(Optional.of(patched));
+
+        service.updateTask(update);
+
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updated(patched));
+    }
+
+    @Test
+    void bulkUpdateTasks_shouldPublishUnknownChangeForDueBeforeSelector() {
+        TaskBulkUpdate update = new TaskBulkUpdate(null, LocalDateTime.now(), null, TaskStatus.COMPLETED, null);
+        given(repository.updateAll(update)).willReturn(4);
+
+        service.bulkUpdateTasks(update);
+
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updatedUnknown());
+    }
+
+    @Test
+    void bulkUpdateTasks_shouldRequireExactlyOneSelector() {
+        TaskBulkUpdate both = new TaskBulkUpdate(
+                List.of(1L), LocalDateTime.now(), null, TaskStatus.COMPLETED, null);
+        TaskBulkUpdate neither = new TaskBulkUpdate(null, null, null, TaskStatus.COMPLETED, null);
+
+        assertThatThrownBy(() -> service.bulkUpdateTasks(both))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Exactly one of ids or dueBefore must be provided");
+        assertThatThrownBy(() -> service.bulkUpdateTasks(neither))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Exactly one of ids or dueBefore must be provided");
+    }
+
+    @Test
+    void bulkUpdateTasks_shouldRequireAChange() {
+        TaskBulkUpdate update = new TaskBulkUpdate(List.of(1L), null, null, null, null);
+
+        assertThatThrownBy(() -> service.bulkUpdateTasks(update))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At least one of status or dueDate must be provided");
+    }
+
     @Test
     void deleteTask_shouldCallRepositoryDelete() {
         Long id = 1L;
-        given(repository.existsById(id)).willReturn(true);
+        given(repository.deleteTask(id)).willReturn(1);
         service.deleteTask(id);
-        verify(repository).deleteById(id);
+        verify(repository).deleteTask(id);
+        verify(repository, never()).existsById(id);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(id));
     }
 
     @Test
@@ -307,6 +610,24 @@ class TaskServiceTest {
                 .hasMessageContaining("Task not found with id " + id);
     }
 
+    @Test
+    void deleteTasks_shouldDeleteInOneStatement() {
+        given(repository.findExistingIds(List.of(1L, 2L, 3L))).willReturn(List.of(1L, 3L));
+        given(repository.deleteTasks(List.of(1L, 3L))).willReturn(2);
+
+        assertThat(service.deleteTasks(List.of(1L, 2L, 3L))).isEqualTo(2);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(1L));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(3L));
+        verify(eventPublisher, never()).publishEvent(TaskChangedEvent.deleted(2L));
+    }
+
+    @Test
+    void deleteTasks_shouldThrowWhenIdsAreEmpty() {
+        assertThatThrownBy(() -> service.deleteTasks(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ids must not be empty");
+    }
+
     @Test
     void deleteTask_shouldThrowWhenIdIsNull() {
         Long id = null;
@@ -314,4 +635,9 @@ class TaskServiceTest {
         assertThatThrownBy(() -> service.deleteTask(id))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    private static TaskResponse response(Long id) {
+        return new TaskResponse(id, 0L, "Task " + id, null, TaskStatus.PENDING,
+                LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now());
+    }
 }
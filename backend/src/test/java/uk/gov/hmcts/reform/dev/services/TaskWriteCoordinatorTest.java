@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import uk.gov.hmcts.reform.dev.config.TaskWriteProperties;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TaskWriteCoordinatorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final TaskWriteQueue writeQueue = mock(TaskWriteQueue.class);
+
+    private final TaskWriteCoordinator coordinator = new TaskWriteCoordinator(
+            new TaskWriteProperties(4, 3, Duration.ofMillis(1), Duration.ofMillis(2), null),
+            writeQueue, meterRegistry);
+
+    @BeforeEach
+    void runWritesInline() {
+        given(writeQueue.execute(any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    @Test
+    void execute_shouldRetryConcurrencyFailuresUntilTheWriteSucceeds() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = coordinator.execute(1L, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(Task.class, 1L);
+            }
+            return "written";
+        });
+
+        assertThat(result).isEqualTo("written");
+        assertThat(meterRegistry.get("tasks.write.retries").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("tasks.write.conflicts").counter().count()).isZero();
+    }
+
+    @Test
+    void execute_shouldGiveUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> coordinator.execute(1L, () -> {
+            attempts.incrementAndGet();
+            throw new CannotAcquireLockException("database is locked");
+        })).isInstanceOf(CannotAcquireLockException.class);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get("tasks.write.conflicts").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void execute_shouldNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> coordinator.execute(1L, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("bad input");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+}
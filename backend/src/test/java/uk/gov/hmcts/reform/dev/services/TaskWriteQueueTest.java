@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import jakarta.persistence.EntityManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import uk.gov.hmcts.reform.dev.config.TaskWriteProperties;
+import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TaskWriteQueueTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final TransactionStatus transactionStatus = mock(TransactionStatus.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskWriteQueue writeQueue;
+
+    @BeforeEach
+    void startWriter() {
+        given(transactionManager.getTransaction(any())).willReturn(transactionStatus);
+        TaskWriteProperties properties = new TaskWriteProperties(4, 1, Duration.ZERO, Duration.ZERO,
+                new TaskWriteProperties.Queue(16, 3, Duration.ofMillis(500), Duration.ofSeconds(1),
+                        Duration.ofSeconds(5)));
+        writeQueue = new TaskWriteQueue(properties, transactionManager, mock(EntityManager.class), meterRegistry);
+        writeQueue.start();
+    }
+
+    @AfterEach
+    void stopWriter() throws InterruptedException {
+        writeQueue.stop();
+    }
+
+    @Test
+    void submit_shouldCommitQueuedWritesTogetherAndIsolateFailures() {
+        CompletableFuture<String> first = writeQueue.submit(() -> "first");
+        CompletableFuture<String> failed = writeQueue.submit(() -> {
+            throw new TaskNotFoundException(9L);
+        });
+        CompletableFuture<String> third = writeQueue.submit(() -> "third");
+
+        assertThat(first.join()).isEqualTo("first");
+        assertThat(third.join()).isEqualTo("third");
+        assertThatThrownBy(failed::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TaskNotFoundException.class);
+
+        verify(transactionManager, times(1)).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRED));
+        verify(transactionStatus, times(3)).createSavepoint();
+        verify(transactionStatus, times(1)).rollbackToSavepoint(any());
+        verify(transactionStatus, times(2)).releaseSavepoint(any());
+        verify(transactionStatus, never()).setRollbackOnly();
+        assertThat(meterRegistry.get("tasks.write.batch.size").summary().max()).isEqualTo(3.0);
+    }
+
+    @Test
+    void submit_shouldFailOnlyTheBatchThatThrowsAnError() {
+        CompletableFuture<String> failed = writeQueue.submit(() -> {
+            throw new AssertionError("boom");
+        });
+        assertThatThrownBy(failed::join).hasCauseInstanceOf(AssertionError.class);
+
+        assertThat(writeQueue.execute(() -> "after")).isEqualTo("after");
+    }
+
+    @Test
+    void stop_shouldCommitTheBatchCollectedBeforeTheInterrupt() throws InterruptedException {
+        CompletableFuture<String> lingering = writeQueue.submit(() -> "lingering");
+        while (meterRegistry.get("tasks.write.queue.depth").gauge().value() > 0) {
+            Thread.sleep(1);
+        }
+
+        writeQueue.stop();
+
+        assertThat(lingering).isCompletedWithValue("lingering");
+    }
+
+    @Test
+    void execute_shouldRethrowTheWritesOwnException() {
+        assertThatThrownBy(() -> writeQueue.execute(() -> {
+            throw new TaskNotFoundException(9L);
+        })).isInstanceOf(TaskNotFoundException.class);
+    }
+}